@@ -0,0 +1,71 @@
+package com.onclass.bootcamp.benchmark;
+
+import com.onclass.bootcamp.domain.model.Bootcamp;
+import com.onclass.bootcamp.infrastructure.entrypoints.dto.CapacityDTO;
+import com.onclass.bootcamp.infrastructure.entrypoints.dto.TechnologyDTO;
+import lombok.experimental.UtilityClass;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+// Datos sintéticos compartidos por los benchmarks: bootcamps con hasta 4 capacities
+// tomadas de un catálogo pequeño, para que haya solapamiento entre bootcamps de la misma página.
+@UtilityClass
+public class BenchmarkFixtures {
+
+    public static final int CAPACITIES_PER_BOOTCAMP = 4;
+    public static final int TECHNOLOGIES_PER_CAPACITY = 6;
+
+    public static List<Bootcamp> bootcamps(int count, int capacityCatalogSize) {
+        List<Bootcamp> result = new ArrayList<>(count);
+        for (long id = 1; id <= count; id++) {
+            List<Long> capacityIds = new ArrayList<>(CAPACITIES_PER_BOOTCAMP);
+            for (int c = 0; c < CAPACITIES_PER_BOOTCAMP; c++) {
+                capacityIds.add(((id + c * 7L) % capacityCatalogSize) + 1);
+            }
+            result.add(Bootcamp.builder()
+                    .id(id)
+                    .name("Bootcamp %05d".formatted(id))
+                    .description("Descripción del bootcamp " + id)
+                    .launchDate(LocalDate.of(2026, 1, 1).plusDays(id))
+                    .duration(12)
+                    .capacityIds(capacityIds.stream().distinct().toList())
+                    .capacityCount(capacityIds.size())
+                    .build());
+        }
+        return result;
+    }
+
+    public static Map<Long, CapacityDTO> capacities(int count, int technologyCatalogSize) {
+        return LongStream.rangeClosed(1, count)
+                .mapToObj(id -> {
+                    CapacityDTO dto = new CapacityDTO();
+                    dto.setId(id);
+                    dto.setName("Capacity " + id);
+                    dto.setDescription("Descripción de la capacity " + id);
+                    dto.setTechnologyIds(LongStream.range(0, TECHNOLOGIES_PER_CAPACITY)
+                            .map(t -> ((id * 3 + t) % technologyCatalogSize) + 1)
+                            .distinct()
+                            .boxed()
+                            .toList());
+                    return dto;
+                })
+                .collect(Collectors.toMap(CapacityDTO::getId, Function.identity()));
+    }
+
+    public static Map<Long, TechnologyDTO> technologies(int count) {
+        return LongStream.rangeClosed(1, count)
+                .mapToObj(id -> {
+                    TechnologyDTO dto = new TechnologyDTO();
+                    dto.setId(id);
+                    dto.setName("Technology " + id);
+                    return dto;
+                })
+                .collect(Collectors.toMap(TechnologyDTO::getId, Function.identity()));
+    }
+}
@@ -0,0 +1,49 @@
+package com.onclass.bootcamp.benchmark;
+
+import com.onclass.bootcamp.domain.model.Bootcamp;
+import com.onclass.bootcamp.infrastructure.adapters.ListPipelineMetrics;
+import com.onclass.bootcamp.infrastructure.entrypoints.handler.BootcampListEnricher;
+import com.onclass.bootcamp.infrastructure.entrypoints.mapper.BootcampMapperImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.Duration;
+import java.util.List;
+
+// Pipeline de enriquecimiento de BootcampHandlerImpl.list contra gateways stub con latencia configurable
+@State(Scope.Benchmark)
+public class BootcampListEnricherBenchmark {
+
+    @Param({"10", "100"})
+    public int pageSize;
+
+    // latencia simulada por llamada a cada downstream
+    @Param({"0", "2"})
+    public int latencyMillis;
+
+    private BootcampListEnricher enricher;
+    private List<Bootcamp> page;
+
+    @Setup
+    public void setup() {
+        List<Bootcamp> bootcamps = BenchmarkFixtures.bootcamps(pageSize, 50);
+        Duration latency = Duration.ofMillis(latencyMillis);
+        enricher = new BootcampListEnricher(
+                new InMemoryBootcampPersistencePort(bootcamps),
+                new StubGateways.Capacities(BenchmarkFixtures.capacities(50, 30), latency),
+                new StubGateways.Technologies(BenchmarkFixtures.technologies(30), latency),
+                new BootcampMapperImpl(),
+                new ListPipelineMetrics(ObservationRegistry.NOOP, new SimpleMeterRegistry()));
+        page = bootcamps;
+    }
+
+    @Benchmark
+    public BootcampListEnricher.Result enrich() {
+        return enricher.enrich(page).block();
+    }
+}
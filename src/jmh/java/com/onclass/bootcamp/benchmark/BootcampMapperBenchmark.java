@@ -0,0 +1,44 @@
+package com.onclass.bootcamp.benchmark;
+
+import com.onclass.bootcamp.domain.model.Bootcamp;
+import com.onclass.bootcamp.infrastructure.entrypoints.dto.BootcampListItemDTO;
+import com.onclass.bootcamp.infrastructure.entrypoints.dto.CapacityListItemDTO;
+import com.onclass.bootcamp.infrastructure.entrypoints.mapper.BootcampMapper;
+import com.onclass.bootcamp.infrastructure.entrypoints.mapper.BootcampMapperImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// BootcampMapper.toListItemDTO sobre páginas grandes
+@State(Scope.Benchmark)
+public class BootcampMapperBenchmark {
+
+    @Param({"10", "100", "1000"})
+    public int pageSize;
+
+    private final BootcampMapper mapper = new BootcampMapperImpl();
+    private List<Bootcamp> bootcamps;
+    private List<CapacityListItemDTO> capacities;
+
+    @Setup
+    public void setup() {
+        bootcamps = BenchmarkFixtures.bootcamps(pageSize, 50);
+        capacities = List.of(
+                new CapacityListItemDTO(1L, "Capacity 1", "d", 0, List.of()),
+                new CapacityListItemDTO(2L, "Capacity 2", "d", 0, List.of()));
+    }
+
+    @Benchmark
+    public List<BootcampListItemDTO> toListItemDTO() {
+        List<BootcampListItemDTO> out = new ArrayList<>(bootcamps.size());
+        for (Bootcamp b : bootcamps) {
+            out.add(mapper.toListItemDTO(b, capacities));
+        }
+        return out;
+    }
+}
@@ -0,0 +1,41 @@
+package com.onclass.bootcamp.benchmark;
+
+import com.onclass.bootcamp.domain.model.Bootcamp;
+import com.onclass.bootcamp.domain.model.Order;
+import com.onclass.bootcamp.domain.model.Page;
+import com.onclass.bootcamp.domain.model.PageRequest;
+import com.onclass.bootcamp.domain.model.SortBy;
+import com.onclass.bootcamp.domain.usecase.BootcampUseCase;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import java.time.Duration;
+
+// BootcampUseCase.list contra un BootcampPersistencePort en memoria
+@State(Scope.Benchmark)
+public class BootcampUseCaseListBenchmark {
+
+    @Param({"10", "100"})
+    public int pageSize;
+
+    @Param({"true", "false"})
+    public boolean includeTotal;
+
+    private BootcampUseCase useCase;
+    private PageRequest pageRequest;
+
+    @Setup
+    public void setup() {
+        var persistence = new InMemoryBootcampPersistencePort(BenchmarkFixtures.bootcamps(10_000, 50));
+        var capacities = new StubGateways.Capacities(BenchmarkFixtures.capacities(50, 30), Duration.ZERO);
+        useCase = new BootcampUseCase(persistence, capacities);
+        pageRequest = new PageRequest(5, pageSize);
+    }
+
+    @Benchmark
+    public Page<Bootcamp> list() {
+        return useCase.list(pageRequest, SortBy.NAME, Order.ASC, includeTotal).block();
+    }
+}
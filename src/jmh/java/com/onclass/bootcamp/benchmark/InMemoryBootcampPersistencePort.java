@@ -0,0 +1,88 @@
+package com.onclass.bootcamp.benchmark;
+
+import com.onclass.bootcamp.domain.model.Bootcamp;
+import com.onclass.bootcamp.domain.model.Order;
+import com.onclass.bootcamp.domain.model.PageCursor;
+import com.onclass.bootcamp.domain.model.PageRequest;
+import com.onclass.bootcamp.domain.model.SortBy;
+import com.onclass.bootcamp.domain.spi.BootcampPersistencePort;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// BootcampPersistencePort en memoria, sin I/O: aísla el coste del use case y del ensamblado
+public class InMemoryBootcampPersistencePort implements BootcampPersistencePort {
+
+    private final List<Bootcamp> byName;
+
+    public InMemoryBootcampPersistencePort(List<Bootcamp> bootcamps) {
+        this.byName = bootcamps.stream().sorted(Comparator.comparing(Bootcamp::getName)).toList();
+    }
+
+    @Override
+    public Mono<Long> countAll() {
+        return Mono.just((long) byName.size());
+    }
+
+    @Override
+    public Flux<Bootcamp> findPage(PageRequest page, SortBy sortBy, Order order) {
+        return Flux.fromIterable(byName)
+                .skip(page.offset())
+                .take(page.size());
+    }
+
+    @Override
+    public Flux<Bootcamp> findPageAfter(PageCursor cursor, int limit, SortBy sortBy, Order order) {
+        return Flux.fromIterable(byName)
+                .filter(b -> cursor == null || b.getName().compareTo(cursor.name()) > 0)
+                .take(limit);
+    }
+
+    @Override
+    public Mono<Boolean> existsByName(String name) {
+        return Mono.just(byName.stream().anyMatch(b -> b.getName().equals(name)));
+    }
+
+    @Override
+    public Mono<Bootcamp> save(Bootcamp bootcamp) {
+        return Mono.just(bootcamp);
+    }
+
+    @Override
+    public Flux<String> findExistingNames(Collection<String> names) {
+        return Flux.fromIterable(byName).map(Bootcamp::getName).filter(names::contains);
+    }
+
+    @Override
+    public Flux<Bootcamp> saveAll(List<Bootcamp> bootcamps) {
+        return Flux.fromIterable(bootcamps);
+    }
+
+    @Override
+    public Flux<Bootcamp> findAll() {
+        return Flux.fromIterable(byName);
+    }
+
+    @Override
+    public Mono<Bootcamp> findById(Long id) {
+        return Flux.fromIterable(byName).filter(b -> b.getId().equals(id)).next();
+    }
+
+    @Override
+    public Flux<Long> findCapacityIdsByBootcampId(Long bootcampId) {
+        return findById(bootcampId).flatMapIterable(Bootcamp::getCapacityIds);
+    }
+
+    @Override
+    public Flux<Map.Entry<Long, Long>> findCapacityIdsByBootcampIds(Collection<Long> bootcampIds) {
+        Set<Long> ids = Set.copyOf(bootcampIds);
+        return Flux.fromIterable(byName)
+                .filter(b -> ids.contains(b.getId()))
+                .flatMapIterable(b -> b.getCapacityIds().stream().map(c -> Map.entry(b.getId(), c)).toList());
+    }
+}
@@ -0,0 +1,56 @@
+package com.onclass.bootcamp.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.onclass.bootcamp.infrastructure.adapters.ListPipelineMetrics;
+import com.onclass.bootcamp.infrastructure.entrypoints.dto.BootcampListItemDTO;
+import com.onclass.bootcamp.infrastructure.entrypoints.dto.PageResponse;
+import com.onclass.bootcamp.infrastructure.entrypoints.handler.BootcampListEnricher;
+import com.onclass.bootcamp.infrastructure.entrypoints.mapper.BootcampMapperImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.Duration;
+import java.util.List;
+
+// Serialización Jackson de PageResponse<BootcampListItemDTO> (mismo ObjectMapper que WebFlux: fechas ISO)
+@State(Scope.Benchmark)
+public class PageResponseSerializationBenchmark {
+
+    @Param({"10", "100"})
+    public int pageSize;
+
+    private ObjectMapper objectMapper;
+    private PageResponse<BootcampListItemDTO> payload;
+
+    @Setup
+    public void setup() {
+        objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+        var bootcamps = BenchmarkFixtures.bootcamps(pageSize, 50);
+        List<BootcampListItemDTO> content = new BootcampListEnricher(
+                new InMemoryBootcampPersistencePort(bootcamps),
+                new StubGateways.Capacities(BenchmarkFixtures.capacities(50, 30), Duration.ZERO),
+                new StubGateways.Technologies(BenchmarkFixtures.technologies(30), Duration.ZERO),
+                new BootcampMapperImpl(),
+                new ListPipelineMetrics(ObservationRegistry.NOOP, new SimpleMeterRegistry()))
+                .enrich(bootcamps)
+                .map(BootcampListEnricher.Result::content)
+                .block();
+        payload = new PageResponse<>(content, 0, pageSize, 10_000L, 10_000 / pageSize, null, null);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(payload);
+    }
+}
@@ -0,0 +1,68 @@
+package com.onclass.bootcamp.benchmark;
+
+import com.onclass.bootcamp.domain.spi.CapacityGatewayPort;
+import com.onclass.bootcamp.domain.spi.TechnologyGatewayPort;
+import com.onclass.bootcamp.infrastructure.entrypoints.dto.CapacityDTO;
+import com.onclass.bootcamp.infrastructure.entrypoints.dto.TechnologyDTO;
+import lombok.experimental.UtilityClass;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Gateways en memoria con latencia simulada por llamada; cuentan las llamadas hechas
+@UtilityClass
+public class StubGateways {
+
+    public static class Capacities implements CapacityGatewayPort {
+        private final Map<Long, CapacityDTO> catalog;
+        private final Duration latency;
+        public final AtomicLong calls = new AtomicLong();
+
+        public Capacities(Map<Long, CapacityDTO> catalog, Duration latency) {
+            this.catalog = catalog;
+            this.latency = latency;
+        }
+
+        @Override
+        public Flux<Long> findExistingIds(List<Long> ids) {
+            return fetchByIds(ids).map(CapacityDTO::getId);
+        }
+
+        @Override
+        public Flux<CapacityDTO> fetchByIds(List<Long> ids) {
+            calls.incrementAndGet();
+            return delay(latency).thenMany(Flux.fromIterable(ids).map(catalog::get).filter(Objects::nonNull));
+        }
+    }
+
+    public static class Technologies implements TechnologyGatewayPort {
+        private final Map<Long, TechnologyDTO> catalog;
+        private final Duration latency;
+        public final AtomicLong calls = new AtomicLong();
+
+        public Technologies(Map<Long, TechnologyDTO> catalog, Duration latency) {
+            this.catalog = catalog;
+            this.latency = latency;
+        }
+
+        @Override
+        public Flux<Long> findExistingIds(List<Long> ids) {
+            return fetchByIds(ids).map(TechnologyDTO::getId);
+        }
+
+        @Override
+        public Flux<TechnologyDTO> fetchByIds(List<Long> ids) {
+            calls.incrementAndGet();
+            return delay(latency).thenMany(Flux.fromIterable(ids).map(catalog::get).filter(Objects::nonNull));
+        }
+    }
+
+    private static Mono<Long> delay(Duration latency) {
+        return latency.isZero() ? Mono.just(0L) : Mono.delay(latency);
+    }
+}
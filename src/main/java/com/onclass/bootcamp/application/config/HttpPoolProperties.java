@@ -0,0 +1,21 @@
+package com.onclass.bootcamp.application.config;
+
+import lombok.Data;
+
+import java.time.Duration;
+
+// Ajustes del pool Reactor Netty de un downstream (app.<servicio>.pool.*)
+@Data
+public class HttpPoolProperties {
+    private int maxConnections = 50;
+    private int pendingAcquireMaxCount = 200;
+    private Duration pendingAcquireTimeout = Duration.ofSeconds(2);
+    private Duration maxIdleTime = Duration.ofSeconds(30);
+    private Duration maxLifeTime = Duration.ofMinutes(5);
+    private Duration evictInBackground = Duration.ofSeconds(30);
+    private Duration connectTimeout = Duration.ofSeconds(2);
+    private Duration responseTimeout = Duration.ofSeconds(5);
+    private boolean keepAlive = true;
+    // h2c con multiplexado (requiere que el downstream lo soporte); si no, HTTP/1.1
+    private boolean http2 = false;
+}
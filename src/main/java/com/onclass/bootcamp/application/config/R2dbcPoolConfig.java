@@ -0,0 +1,42 @@
+package com.onclass.bootcamp.application.config;
+
+import com.onclass.bootcamp.infrastructure.adapters.persistenceadapter.pool.ConnectionPoolHealthIndicator;
+import com.onclass.bootcamp.infrastructure.adapters.persistenceadapter.pool.TimedConnectionFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.spi.ConnectionFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// Pool R2DBC: tamaño, tiempos y validación en spring.r2dbc.pool.*, caché de sentencias en spring.r2dbc.properties.*
+// Gauges acquired / idle / pending / allocated: binder de Boot (r2dbc.pool.*{name="connectionFactory"})
+// Tiempo de acquire: TimedConnectionFactory | saturación: detalles del health r2dbcPool y gauge r2dbc.pool.saturated
+@Configuration
+public class R2dbcPoolConfig {
+
+    // static: el post-processor se registra antes que el resto de beans de la configuración
+    @Bean
+    public static BeanPostProcessor connectionPoolTimingPostProcessor(ObjectProvider<MeterRegistry> meterRegistry) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof ConnectionPool pool) {
+                    return new TimedConnectionFactory(pool, beanName, meterRegistry.getObject());
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public ConnectionPoolHealthIndicator r2dbcPoolHealthIndicator(
+            ConnectionFactory connectionFactory,
+            @Value("${app.r2dbc.saturation.utilization-threshold:1.0}") double utilizationThreshold,
+            @Value("${app.r2dbc.saturation.pending-threshold:1}") int pendingThreshold,
+            MeterRegistry meterRegistry) {
+        return new ConnectionPoolHealthIndicator(connectionFactory, utilizationThreshold, pendingThreshold, meterRegistry);
+    }
+}
@@ -2,15 +2,21 @@ package com.onclass.bootcamp.application.config;
 
 import com.onclass.bootcamp.domain.api.BootcampServicePort;
 import com.onclass.bootcamp.domain.spi.BootcampPersistencePort;
-import com.onclass.bootcamp.domain.spi.CapacityGatewayPort;
 import com.onclass.bootcamp.domain.usecase.BootcampUseCase;
+import com.onclass.bootcamp.infrastructure.adapters.ListPipelineMetrics;
+import com.onclass.bootcamp.infrastructure.adapters.capacityadapter.CapacityWebClientAdapter;
+import com.onclass.bootcamp.infrastructure.adapters.persistenceadapter.BootcampCatalogVersion;
 import com.onclass.bootcamp.infrastructure.adapters.persistenceadapter.BootcampPersistenceAdapter;
 import com.onclass.bootcamp.infrastructure.adapters.persistenceadapter.mapper.BootcampEntityMapper;
 import com.onclass.bootcamp.infrastructure.adapters.persistenceadapter.repository.BootcampRepository;
 import com.onclass.bootcamp.infrastructure.adapters.persistenceadapter.repository.BootcampCapacityRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.reactive.TransactionalOperator;
+
+import java.time.Duration;
 
 @Configuration
 @RequiredArgsConstructor
@@ -19,21 +25,31 @@ public class UseCasesConfig {
         private final BootcampRepository bootcampRepository;
         private final BootcampCapacityRepository bootcampCapacityRepository;
         private final BootcampEntityMapper bootcampEntityMapper;
+        private final TransactionalOperator transactionalOperator;
+        private final ListPipelineMetrics listPipelineMetrics;
+        private final BootcampCatalogVersion bootcampCatalogVersion;
 
         @Bean
         public BootcampPersistencePort bootcampPersistencePort() {
                 return new BootcampPersistenceAdapter(
                         bootcampRepository,
                         bootcampCapacityRepository,
-                        bootcampEntityMapper
+                        bootcampEntityMapper,
+                        transactionalOperator,
+                        listPipelineMetrics,
+                        bootcampCatalogVersion
                 );
         }
 
         @Bean
         public BootcampServicePort bootcampService(
                 BootcampPersistencePort bootcampPersistencePort,
-                CapacityGatewayPort capacityGatewayPort
+                // el adapter sin decorar: register valida contra capacity-service, no contra caché ni snapshot
+                CapacityWebClientAdapter capacityGatewayPort,
+                @Value("${app.bootcamp.total-count-ttl:5s}") Duration totalCountTtl,
+                @Value("${app.bootcamp.unique-name-fast-path:false}") boolean uniqueNameFastPath
         ) {
-                return new BootcampUseCase(bootcampPersistencePort, capacityGatewayPort);
+                return new BootcampUseCase(bootcampPersistencePort, capacityGatewayPort, totalCountTtl,
+                        uniqueNameFastPath);
         }
 }
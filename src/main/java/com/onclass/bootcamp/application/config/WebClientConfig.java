@@ -1,22 +1,276 @@
 package com.onclass.bootcamp.application.config;
 
+import com.onclass.bootcamp.domain.spi.CapacityGatewayPort;
+import com.onclass.bootcamp.domain.spi.TechnologyGatewayPort;
+import com.onclass.bootcamp.infrastructure.adapters.AdaptiveLimit;
+import com.onclass.bootcamp.infrastructure.adapters.ConcurrencyLimiter;
+import com.onclass.bootcamp.infrastructure.adapters.GatewayResilience;
+import com.onclass.bootcamp.infrastructure.adapters.HedgingPolicy;
+import com.onclass.bootcamp.infrastructure.adapters.cache.ReactiveLookupCache;
+import com.onclass.bootcamp.infrastructure.adapters.capacityadapter.CachedCapacityGatewayAdapter;
+import com.onclass.bootcamp.infrastructure.adapters.capacityadapter.CapacityWebClientAdapter;
+import com.onclass.bootcamp.infrastructure.adapters.capacityadapter.RequestScopedCapacityGatewayAdapter;
+import com.onclass.bootcamp.infrastructure.adapters.technologyadapter.CachedTechnologyGatewayAdapter;
+import com.onclass.bootcamp.infrastructure.adapters.capacityadapter.SnapshotCapacityGatewayAdapter;
+import com.onclass.bootcamp.infrastructure.adapters.snapshot.CatalogSnapshot;
+import com.onclass.bootcamp.infrastructure.adapters.snapshot.CatalogSnapshotEndpoint;
+import com.onclass.bootcamp.infrastructure.adapters.snapshot.CatalogSnapshotHealthIndicator;
+import com.onclass.bootcamp.infrastructure.adapters.technologyadapter.RequestScopedTechnologyGatewayAdapter;
+import com.onclass.bootcamp.infrastructure.adapters.technologyadapter.SnapshotTechnologyGatewayAdapter;
+import com.onclass.bootcamp.infrastructure.adapters.technologyadapter.TechnologyWebClientAdapter;
+import com.onclass.bootcamp.infrastructure.entrypoints.dto.CapacityDTO;
+import com.onclass.bootcamp.infrastructure.entrypoints.dto.TechnologyDTO;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.retry.RetryRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.netty.channel.ChannelOption;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+import java.util.List;
 
 @Configuration
 public class WebClientConfig {
 
+    // ====== Un pool de conexiones por downstream, compartido por todas las llamadas del adapter ======
+
+    @Bean
+    @ConfigurationProperties("app.capacity.pool")
+    public HttpPoolProperties capacityPoolProperties() {
+        return new HttpPoolProperties();
+    }
+
+    @Bean
+    @ConfigurationProperties("app.technology.pool")
+    public HttpPoolProperties technologyPoolProperties() {
+        return new HttpPoolProperties();
+    }
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider capacityConnectionProvider(HttpPoolProperties capacityPoolProperties) {
+        return connectionProvider("capacity-service", capacityPoolProperties);
+    }
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider technologyConnectionProvider(HttpPoolProperties technologyPoolProperties) {
+        return connectionProvider("technology-service", technologyPoolProperties);
+    }
+
     @Bean("capacityWebClient")
     public WebClient capacityWebClient(
+            WebClient.Builder builder,
+            ConnectionProvider capacityConnectionProvider,
+            HttpPoolProperties capacityPoolProperties,
             @Value("${app.capacity.base-url}") String baseUrl) {
-        return WebClient.builder().baseUrl(baseUrl).build();
+        return builder.clone()
+                .baseUrl(baseUrl)
+                .clientConnector(new ReactorClientHttpConnector(
+                        httpClient(capacityConnectionProvider, capacityPoolProperties)))
+                .build();
     }
 
     @Bean("technologyWebClient")
     public WebClient technologyWebClient(
+            WebClient.Builder builder,
+            ConnectionProvider technologyConnectionProvider,
+            HttpPoolProperties technologyPoolProperties,
             @Value("${app.technology.base-url}") String baseUrl) {
-        return WebClient.builder().baseUrl(baseUrl).build();
+        return builder.clone()
+                .baseUrl(baseUrl)
+                .clientConnector(new ReactorClientHttpConnector(
+                        httpClient(technologyConnectionProvider, technologyPoolProperties)))
+                .build();
+    }
+
+    // metrics(true): gauges reactor.netty.connection.provider.{active,idle,pending,total}.connections
+    // con tag name=<servicio>, publicados vía el registry global (Prometheus)
+    private static ConnectionProvider connectionProvider(String name, HttpPoolProperties props) {
+        return ConnectionProvider.builder(name)
+                .maxConnections(props.getMaxConnections())
+                .pendingAcquireMaxCount(props.getPendingAcquireMaxCount())
+                .pendingAcquireTimeout(props.getPendingAcquireTimeout())
+                .maxIdleTime(props.getMaxIdleTime())
+                .maxLifeTime(props.getMaxLifeTime())
+                .evictInBackground(props.getEvictInBackground())
+                .metrics(true)
+                .build();
+    }
+
+    private static HttpClient httpClient(ConnectionProvider provider, HttpPoolProperties props) {
+        HttpClient client = HttpClient.create(provider)
+                .keepAlive(props.isKeepAlive())
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) props.getConnectTimeout().toMillis())
+                .responseTimeout(props.getResponseTimeout());
+        return props.isHttp2()
+                ? client.protocol(HttpProtocol.H2C, HttpProtocol.HTTP11)
+                : client;
+    }
+
+    // ====== Límite de llamadas en vuelo por downstream, compartido por todos los requests (app.<servicio>.limiter.*) ======
+
+    @Bean
+    public ConcurrencyLimiter capacityLimiter(MeterRegistry meterRegistry,
+                                              @Value("${app.capacity.limiter.max-concurrent:25}") int maxConcurrent,
+                                              @Value("${app.capacity.limiter.max-queued:100}") int maxQueued,
+                                              @Value("${app.capacity.limiter.queue-timeout:500ms}") Duration queueTimeout,
+                                              @Value("${app.capacity.limiter.per-request:10}") int perRequest,
+                                              @Value("${app.capacity.limiter.per-request-max-queued:100}") int perRequestMaxQueued,
+                                              @Value("${app.capacity.limiter.adaptive.enabled:true}") boolean adaptive,
+                                              @Value("${app.capacity.limiter.adaptive.min-limit:2}") int minLimit,
+                                              @Value("${app.capacity.limiter.adaptive.max-limit:100}") int maxLimit,
+                                              @Value("${app.capacity.limiter.adaptive.backoff-ratio:0.9}") double backoffRatio,
+                                              @Value("${app.capacity.limiter.adaptive.rtt-tolerance:2.0}") double rttTolerance,
+                                              @Value("${app.capacity.limiter.adaptive.min-rtt-window:250}") int minRttWindow) {
+        AdaptiveLimit limit = new AdaptiveLimit(adaptive, maxConcurrent, minLimit, maxLimit,
+                backoffRatio, rttTolerance, minRttWindow);
+        return new ConcurrencyLimiter("capacity-service", limit, maxQueued, queueTimeout, perRequest,
+                perRequestMaxQueued, meterRegistry);
+    }
+
+    @Bean
+    public ConcurrencyLimiter technologyLimiter(MeterRegistry meterRegistry,
+                                                @Value("${app.technology.limiter.max-concurrent:25}") int maxConcurrent,
+                                                @Value("${app.technology.limiter.max-queued:100}") int maxQueued,
+                                                @Value("${app.technology.limiter.queue-timeout:500ms}") Duration queueTimeout,
+                                                @Value("${app.technology.limiter.per-request:10}") int perRequest,
+                                                @Value("${app.technology.limiter.per-request-max-queued:100}") int perRequestMaxQueued,
+                                                @Value("${app.technology.limiter.adaptive.enabled:true}") boolean adaptive,
+                                                @Value("${app.technology.limiter.adaptive.min-limit:2}") int minLimit,
+                                                @Value("${app.technology.limiter.adaptive.max-limit:100}") int maxLimit,
+                                                @Value("${app.technology.limiter.adaptive.backoff-ratio:0.9}") double backoffRatio,
+                                                @Value("${app.technology.limiter.adaptive.rtt-tolerance:2.0}") double rttTolerance,
+                                                @Value("${app.technology.limiter.adaptive.min-rtt-window:250}") int minRttWindow) {
+        AdaptiveLimit limit = new AdaptiveLimit(adaptive, maxConcurrent, minLimit, maxLimit,
+                backoffRatio, rttTolerance, minRttWindow);
+        return new ConcurrencyLimiter("technology-service", limit, maxQueued, queueTimeout, perRequest,
+                perRequestMaxQueued, meterRegistry);
+    }
+
+    // ====== Resilience4j por downstream (instancias definidas en application.yml) ======
+
+    @Bean
+    public GatewayResilience capacityResilience(CircuitBreakerRegistry circuitBreakerRegistry,
+                                                RetryRegistry retryRegistry,
+                                                ConcurrencyLimiter capacityLimiter,
+                                                MeterRegistry meterRegistry,
+                                                @Value("${app.capacity.timeout:5s}") Duration timeout,
+                                                @Value("${app.capacity.hedge.enabled:false}") boolean hedgeEnabled,
+                                                @Value("${app.capacity.hedge.min-delay:50ms}") Duration hedgeMinDelay,
+                                                @Value("${app.capacity.hedge.max-ratio:0.1}") double hedgeMaxRatio) {
+        return new GatewayResilience(
+                "capacity-service",
+                circuitBreakerRegistry.circuitBreaker("capacityClient"),
+                retryRegistry.retry("capacityRetry"),
+                capacityLimiter,
+                new HedgingPolicy("capacity-service", hedgeEnabled, hedgeMinDelay, hedgeMaxRatio, meterRegistry),
+                timeout);
+    }
+
+    @Bean
+    public GatewayResilience technologyResilience(CircuitBreakerRegistry circuitBreakerRegistry,
+                                                  RetryRegistry retryRegistry,
+                                                  ConcurrencyLimiter technologyLimiter,
+                                                  MeterRegistry meterRegistry,
+                                                  @Value("${app.technology.timeout:5s}") Duration timeout,
+                                                  @Value("${app.technology.hedge.enabled:false}") boolean hedgeEnabled,
+                                                  @Value("${app.technology.hedge.min-delay:50ms}") Duration hedgeMinDelay,
+                                                  @Value("${app.technology.hedge.max-ratio:0.1}") double hedgeMaxRatio) {
+        return new GatewayResilience(
+                "technology-service",
+                circuitBreakerRegistry.circuitBreaker("technologyClient"),
+                retryRegistry.retry("technologyRetry"),
+                technologyLimiter,
+                new HedgingPolicy("technology-service", hedgeEnabled, hedgeMinDelay, hedgeMaxRatio, meterRegistry),
+                timeout);
+    }
+
+    // ====== Snapshot en memoria del catálogo (app.<servicio>.snapshot.enabled=true para activarlo) ======
+
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    @ConditionalOnProperty(prefix = "app.capacity.snapshot", name = "enabled", havingValue = "true")
+    public CatalogSnapshot<CapacityDTO> capacitySnapshot(
+            CapacityWebClientAdapter adapter,
+            @Value("${app.capacity.snapshot.refresh-interval:5m}") Duration refreshInterval) {
+        return new CatalogSnapshot<>("capacities", adapter::fetchAll, CapacityDTO::getId, refreshInterval);
+    }
+
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    @ConditionalOnProperty(prefix = "app.technology.snapshot", name = "enabled", havingValue = "true")
+    public CatalogSnapshot<TechnologyDTO> technologySnapshot(
+            TechnologyWebClientAdapter adapter,
+            @Value("${app.technology.snapshot.refresh-interval:5m}") Duration refreshInterval) {
+        return new CatalogSnapshot<>("technologies", adapter::fetchAll, TechnologyDTO::getId, refreshInterval);
+    }
+
+    // health: catalogSnapshot | endpoint catalogsnapshot por JMX (estado / recarga inmediata)
+    @Bean
+    @ConditionalOnExpression("${app.capacity.snapshot.enabled:false} or ${app.technology.snapshot.enabled:false}")
+    public CatalogSnapshotHealthIndicator catalogSnapshotHealthIndicator(List<CatalogSnapshot<?>> snapshots) {
+        return new CatalogSnapshotHealthIndicator(snapshots);
+    }
+
+    @Bean
+    @ConditionalOnExpression("${app.capacity.snapshot.enabled:false} or ${app.technology.snapshot.enabled:false}")
+    public CatalogSnapshotEndpoint catalogSnapshotEndpoint(List<CatalogSnapshot<?>> snapshots) {
+        return new CatalogSnapshotEndpoint(snapshots);
+    }
+
+    // ====== Decoradores delante de los adapters: loader por request -> snapshot -> caché local -> WebClient ======
+    // (app.<servicio>.cache.enabled=false desactiva la caché; el loader solo actúa si el handler lo instala)
+
+    @Bean
+    @Primary
+    public CapacityGatewayPort capacityGatewayPort(
+            CapacityWebClientAdapter adapter,
+            MeterRegistry meterRegistry,
+            ObjectProvider<CatalogSnapshot<CapacityDTO>> capacitySnapshot,
+            @Value("${app.capacity.cache.enabled:true}") boolean cacheEnabled,
+            @Value("${app.capacity.cache.ttl:10m}") Duration ttl,
+            @Value("${app.capacity.cache.negative-ttl:30s}") Duration negativeTtl,
+            @Value("${app.capacity.cache.max-size:10000}") long maxSize,
+            @Value("${app.capacity.cache.load-timeout:5s}") Duration loadTimeout,
+            @Value("${app.capacity.loader.window:1ms}") Duration loaderWindow) {
+        CapacityGatewayPort port = cacheEnabled
+                ? new CachedCapacityGatewayAdapter(new ReactiveLookupCache<>(
+                        "capacities", ttl, negativeTtl, maxSize, loadTimeout,
+                        adapter::fetchByIds, CapacityDTO::getId, meterRegistry), adapter)
+                : adapter;
+        CatalogSnapshot<CapacityDTO> snapshot = capacitySnapshot.getIfAvailable();
+        if (snapshot != null) port = new SnapshotCapacityGatewayAdapter(snapshot, port);
+        return new RequestScopedCapacityGatewayAdapter(port, loaderWindow);
+    }
+
+    @Bean
+    @Primary
+    public TechnologyGatewayPort technologyGatewayPort(
+            TechnologyWebClientAdapter adapter,
+            MeterRegistry meterRegistry,
+            ObjectProvider<CatalogSnapshot<TechnologyDTO>> technologySnapshot,
+            @Value("${app.technology.cache.enabled:true}") boolean cacheEnabled,
+            @Value("${app.technology.cache.ttl:10m}") Duration ttl,
+            @Value("${app.technology.cache.negative-ttl:30s}") Duration negativeTtl,
+            @Value("${app.technology.cache.max-size:10000}") long maxSize,
+            @Value("${app.technology.cache.load-timeout:5s}") Duration loadTimeout,
+            @Value("${app.technology.loader.window:1ms}") Duration loaderWindow) {
+        TechnologyGatewayPort port = cacheEnabled
+                ? new CachedTechnologyGatewayAdapter(new ReactiveLookupCache<>(
+                        "technologies", ttl, negativeTtl, maxSize, loadTimeout,
+                        adapter::fetchByIds, TechnologyDTO::getId, meterRegistry), adapter)
+                : adapter;
+        CatalogSnapshot<TechnologyDTO> snapshot = technologySnapshot.getIfAvailable();
+        if (snapshot != null) port = new SnapshotTechnologyGatewayAdapter(snapshot, port);
+        return new RequestScopedTechnologyGatewayAdapter(port, loaderWindow);
     }
 }
@@ -1,16 +1,27 @@
 package com.onclass.bootcamp.domain.api;
 
 import com.onclass.bootcamp.domain.model.Bootcamp;
+import com.onclass.bootcamp.domain.model.BootcampBatchResult;
 import com.onclass.bootcamp.domain.model.Page;
+import com.onclass.bootcamp.domain.model.PageCursor;
 import com.onclass.bootcamp.domain.model.PageRequest;
 import com.onclass.bootcamp.domain.model.SortBy;
 import com.onclass.bootcamp.domain.model.Order;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
+
 public interface BootcampServicePort {
     Mono<Bootcamp> register(Bootcamp bootcamp);
+    // Alta por lotes con las mismas reglas que register; un resultado por ítem, en el orden de entrada
+    Flux<BootcampBatchResult> registerAll(List<Bootcamp> bootcamps);
     Flux<Bootcamp> list();
     Mono<Bootcamp> findById(Long id);
-    Mono<Page<Bootcamp>> list(PageRequest page, SortBy sortBy, Order order);
+    Mono<Page<Bootcamp>> list(PageRequest page, SortBy sortBy, Order order, boolean includeTotal);
+    Mono<Page<Bootcamp>> listAfter(PageCursor cursor, int size, SortBy sortBy, Order order, boolean includeTotal);
+
+    default Mono<Page<Bootcamp>> list(PageRequest page, SortBy sortBy, Order order) {
+        return list(page, sortBy, order, true);
+    }
 }
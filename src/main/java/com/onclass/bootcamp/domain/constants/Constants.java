@@ -2,6 +2,8 @@ package com.onclass.bootcamp.domain.constants;
 
 import lombok.experimental.UtilityClass;
 
+import java.time.Duration;
+
 @UtilityClass
 public class Constants {
     public static final int BOOTCAMP_NAME_MAX_LENGTH = 50;
@@ -9,4 +11,7 @@ public class Constants {
     public static final int MIN_CAPACITIES = 1;
     public static final int MAX_CAPACITIES = 4;
     public static final String BOOTCAMP_CAPACITY_IDS = "capacityIds";
+    public static final Duration TOTAL_COUNT_TTL = Duration.ofSeconds(5);
+    public static final int BATCH_MAX_SIZE = 1000;
+    public static final int BATCH_INSERT_CHUNK = 100; // bootcamps por transacción en registerAll
 }
@@ -26,7 +26,8 @@ public enum TechnicalMessage {
     ADAPTER_RESPONSE_NOT_FOUND("404", "Bootcamp not found", "id"),
     BOOTCAMP_MIN_CAPACITIES("400", "A bootcamp must have at least 1 capacity", BOOTCAMP_CAPACITY_IDS),
     BOOTCAMP_MAX_CAPACITIES("400", "A bootcamp must have at most 4 capacities", BOOTCAMP_CAPACITY_IDS),
-    CAPACITY_NOT_FOUND("404", "Some capacity IDs do not exist", BOOTCAMP_CAPACITY_IDS);
+    CAPACITY_NOT_FOUND("404", "Some capacity IDs do not exist", BOOTCAMP_CAPACITY_IDS),
+    INVALID_CURSOR("400", "Invalid or expired cursor", "cursor");
 
     public final String code;
     public final String message;
@@ -18,5 +18,6 @@ public class Bootcamp {
     private LocalDate launchDate;
     private Integer duration;
     private List<Long> capacityIds;
+    private Integer capacityCount; // columna desnormalizada bootcamps.capacity_count
 }
 
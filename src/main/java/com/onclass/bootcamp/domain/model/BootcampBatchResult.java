@@ -0,0 +1,20 @@
+package com.onclass.bootcamp.domain.model;
+
+import com.onclass.bootcamp.domain.enums.TechnicalMessage;
+
+// Resultado de un ítem de registerAll: index es la posición en el lote de entrada;
+// bootcamp viene con id si se creó, error trae la regla que lo rechazó
+public record BootcampBatchResult(int index, Bootcamp bootcamp, TechnicalMessage error) {
+
+    public static BootcampBatchResult created(int index, Bootcamp bootcamp) {
+        return new BootcampBatchResult(index, bootcamp, null);
+    }
+
+    public static BootcampBatchResult rejected(int index, Bootcamp bootcamp, TechnicalMessage error) {
+        return new BootcampBatchResult(index, bootcamp, error);
+    }
+
+    public boolean isCreated() {
+        return error == null;
+    }
+}
@@ -2,9 +2,16 @@ package com.onclass.bootcamp.domain.model;
 
 import java.util.List;
 
-public record Page<T>(List<T> content, int page, int size, long totalElements, int totalPages) {
+// page es null en modo cursor; totalElements/totalPages son null si no se pidió el total;
+// nextCursor es null cuando no hay más elementos
+public record Page<T>(List<T> content, Integer page, int size, Long totalElements, Integer totalPages,
+                      PageCursor nextCursor) {
     public static <T> Page<T> of(List<T> content, int page, int size, long total) {
-        int totalPages = (int) Math.ceil(total / (double) size);
-        return new Page<>(content, page, size, total, totalPages);
+        return of(content, page, size, total, null);
+    }
+
+    public static <T> Page<T> of(List<T> content, Integer page, int size, Long total, PageCursor nextCursor) {
+        Integer totalPages = total == null ? null : (int) Math.ceil(total / (double) size);
+        return new Page<>(content, page, size, total, totalPages, nextCursor);
     }
 }
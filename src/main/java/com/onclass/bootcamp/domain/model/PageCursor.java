@@ -0,0 +1,23 @@
+package com.onclass.bootcamp.domain.model;
+
+// Clave del último elemento entregado (modo keyset): (name, id) o (capacityCount, name, id)
+public record PageCursor(SortBy sortBy, Order order, Integer capacityCount, String name, Long id) {
+
+    public PageCursor {
+        if (sortBy == null || order == null || name == null || id == null) {
+            throw new IllegalArgumentException("cursor requires sortBy, order, name and id");
+        }
+        if (sortBy == SortBy.CAPACITY_COUNT && capacityCount == null) {
+            throw new IllegalArgumentException("cursor for CAPACITY_COUNT requires capacityCount");
+        }
+    }
+
+    public static PageCursor after(Bootcamp last, SortBy sortBy, Order order) {
+        Integer count = null;
+        if (sortBy == SortBy.CAPACITY_COUNT) {
+            count = last.getCapacityCount() != null ? last.getCapacityCount()
+                    : last.getCapacityIds() != null ? last.getCapacityIds().size() : 0;
+        }
+        return new PageCursor(sortBy, order, count, last.getName(), last.getId());
+    }
+}
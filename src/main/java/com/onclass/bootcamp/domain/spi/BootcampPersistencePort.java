@@ -1,6 +1,7 @@
 package com.onclass.bootcamp.domain.spi;
 
 import com.onclass.bootcamp.domain.model.Bootcamp;
+import com.onclass.bootcamp.domain.model.PageCursor;
 import com.onclass.bootcamp.domain.model.PageRequest;
 import com.onclass.bootcamp.domain.model.SortBy;
 import com.onclass.bootcamp.domain.model.Order;
@@ -8,13 +9,19 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 
 public interface BootcampPersistencePort {
     Mono<Long> countAll();
     Flux<Bootcamp> findPage(PageRequest page, SortBy sortBy, Order order);
+    Flux<Bootcamp> findPageAfter(PageCursor cursor, int limit, SortBy sortBy, Order order);
     Mono<Boolean> existsByName(String name);
     Mono<Bootcamp> save(Bootcamp bootcamp);
+    // Nombres ya registrados entre los dados (una sola consulta IN)
+    Flux<String> findExistingNames(Collection<String> names);
+    // Inserta bootcamps y vínculos en una sola transacción; devuelve los guardados en el orden de entrada
+    Flux<Bootcamp> saveAll(List<Bootcamp> bootcamps);
     Flux<Bootcamp> findAll();
     Mono<Bootcamp> findById(Long id);
     Flux<Long> findCapacityIdsByBootcampId(Long bootcampId);
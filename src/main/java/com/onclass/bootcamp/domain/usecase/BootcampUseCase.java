@@ -5,8 +5,10 @@ import com.onclass.bootcamp.domain.constants.Constants;
 import com.onclass.bootcamp.domain.enums.TechnicalMessage;
 import com.onclass.bootcamp.domain.exceptions.BusinessException;
 import com.onclass.bootcamp.domain.model.Bootcamp;
+import com.onclass.bootcamp.domain.model.BootcampBatchResult;
 import com.onclass.bootcamp.domain.model.Order;
 import com.onclass.bootcamp.domain.model.Page;
+import com.onclass.bootcamp.domain.model.PageCursor;
 import com.onclass.bootcamp.domain.model.PageRequest;
 import com.onclass.bootcamp.domain.model.SortBy;
 import com.onclass.bootcamp.domain.spi.BootcampPersistencePort;
@@ -14,17 +16,40 @@ import com.onclass.bootcamp.domain.spi.CapacityGatewayPort;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
 
 public class BootcampUseCase implements BootcampServicePort {
 
     private final BootcampPersistencePort persistence;
     private final CapacityGatewayPort capacityGatewayPort;
+    private final Duration totalCountTtl;
+    // true: la unicidad del nombre la garantiza el índice único y el adapter traduce el duplicado
+    private final boolean uniqueNameFastPath;
+    private final AtomicReference<Mono<Long>> totalCache = new AtomicReference<>();
 
     public BootcampUseCase(BootcampPersistencePort persistence, CapacityGatewayPort capacityGatewayPort) {
+        this(persistence, capacityGatewayPort, Constants.TOTAL_COUNT_TTL);
+    }
+
+    public BootcampUseCase(BootcampPersistencePort persistence, CapacityGatewayPort capacityGatewayPort,
+                           Duration totalCountTtl) {
+        this(persistence, capacityGatewayPort, totalCountTtl, false);
+    }
+
+    public BootcampUseCase(BootcampPersistencePort persistence, CapacityGatewayPort capacityGatewayPort,
+                           Duration totalCountTtl, boolean uniqueNameFastPath) {
         this.persistence = persistence;
         this.capacityGatewayPort = capacityGatewayPort;
+        this.totalCountTtl = totalCountTtl;
+        this.uniqueNameFastPath = uniqueNameFastPath;
     }
 
     @Override
@@ -36,9 +61,100 @@ public class BootcampUseCase implements BootcampServicePort {
                     // reglas HU04: existencia en capacity + unicidad de nombre + guardar
                     final List<Long> ids = capacityIdsOrEmpty(b);
                     validateCapacityRules(ids);
-                    return verifyAllCapacityIdsExist(ids)
-                            .then(ensureNameIsUnique(b.getName()))
-                            .then(persistence.save(b));
+                    // sin fast path: capacity-service y existsByName en paralelo (latencia = max, no suma);
+                    // con fast path el duplicado lo detecta el INSERT (BOOTCAMP_ALREADY_EXISTS desde el adapter)
+                    Mono<Void> checks = uniqueNameFastPath
+                            ? verifyAllCapacityIdsExist(ids)
+                            : firstErrorInOrder(verifyAllCapacityIdsExist(ids), ensureNameIsUnique(b.getName()));
+                    return checks
+                            .then(Mono.defer(() -> persistence.save(b)))
+                            .doOnSuccess(saved -> catalogChanged());
+                });
+    }
+
+    @Override
+    public Flux<BootcampBatchResult> registerAll(List<Bootcamp> bootcamps) {
+        if (bootcamps == null || bootcamps.isEmpty()) {
+            return Flux.error(new BusinessException(TechnicalMessage.INVALID_REQUEST));
+        }
+        if (bootcamps.size() > Constants.BATCH_MAX_SIZE) {
+            return Flux.error(new BusinessException(TechnicalMessage.INVALID_PARAMETERS));
+        }
+
+        // (1) reglas sincrónicas por ítem, igual que register
+        BootcampBatchResult[] results = new BootcampBatchResult[bootcamps.size()];
+        List<Integer> pending = new ArrayList<>();
+        for (int i = 0; i < bootcamps.size(); i++) {
+            Bootcamp b = bootcamps.get(i);
+            try {
+                if (b == null) throw new BusinessException(TechnicalMessage.INVALID_REQUEST);
+                validateBasics(b);
+                validateCapacityRules(capacityIdsOrEmpty(b));
+                pending.add(i);
+            } catch (BusinessException e) {
+                results[i] = BootcampBatchResult.rejected(i, b, e.getTechnicalMessage());
+            }
+        }
+        if (pending.isEmpty()) return Flux.fromArray(results);
+
+        // (2) una sola consulta al capacity-service con la unión de IDs y un solo IN por nombres, en paralelo
+        List<Long> capacityIds = pending.stream()
+                .flatMap(i -> bootcamps.get(i).getCapacityIds().stream())
+                .distinct()
+                .toList();
+        List<String> names = pending.stream().map(i -> bootcamps.get(i).getName()).distinct().toList();
+
+        return Mono.zip(
+                        capacityGatewayPort.findExistingIds(capacityIds).collect(Collectors.toSet()),
+                        persistence.findExistingNames(names).collect(Collectors.toSet()))
+                .flatMapMany(found -> {
+                    // (3) misma precedencia que register: capacities primero, luego nombre (en BD o repetido en el lote)
+                    Set<String> taken = new HashSet<>(found.getT2());
+                    List<Integer> accepted = new ArrayList<>();
+                    for (int i : pending) {
+                        Bootcamp b = bootcamps.get(i);
+                        if (!found.getT1().containsAll(b.getCapacityIds())) {
+                            results[i] = BootcampBatchResult.rejected(i, b, TechnicalMessage.CAPACITY_NOT_FOUND);
+                        } else if (!taken.add(b.getName())) {
+                            results[i] = BootcampBatchResult.rejected(i, b, TechnicalMessage.BOOTCAMP_ALREADY_EXISTS);
+                        } else {
+                            accepted.add(i);
+                        }
+                    }
+                    // (4) inserciones por bloques, una transacción por bloque; un bloque fallido no deshace los anteriores
+                    return Flux.fromIterable(accepted)
+                            .buffer(Constants.BATCH_INSERT_CHUNK)
+                            .concatMap(chunk -> saveChunk(bootcamps, chunk, results))
+                            .then(Mono.fromRunnable(() -> {
+                                if (Arrays.stream(results).anyMatch(BootcampBatchResult::isCreated)) catalogChanged();
+                            }))
+                            .thenMany(Flux.fromArray(results));
+                });
+    }
+
+    // Los nombres iguales solo según la collation de MySQL (mayúsculas, acentos) no se detectan antes: los
+    // rechaza el índice único. Si el bloque falla por un nombre repetido se reintenta ítem por ítem, así
+    // solo se rechazan los que chocan (también si otro alta ganó la carrera por el nombre)
+    private Mono<Void> saveChunk(List<Bootcamp> bootcamps, List<Integer> chunk, BootcampBatchResult[] results) {
+        return persistence.saveAll(chunk.stream().map(bootcamps::get).toList())
+                .collectList()
+                .doOnNext(saved -> {
+                    for (int k = 0; k < chunk.size(); k++) {
+                        results[chunk.get(k)] = BootcampBatchResult.created(chunk.get(k), saved.get(k));
+                    }
+                })
+                .then()
+                .onErrorResume(ex -> {
+                    TechnicalMessage error = ex instanceof BusinessException be
+                            ? be.getTechnicalMessage()
+                            : TechnicalMessage.INTERNAL_ERROR;
+                    if (error == TechnicalMessage.BOOTCAMP_ALREADY_EXISTS && chunk.size() > 1) {
+                        return Flux.fromIterable(chunk)
+                                .concatMap(i -> saveChunk(bootcamps, List.of(i), results))
+                                .then();
+                    }
+                    chunk.forEach(i -> results[i] = BootcampBatchResult.rejected(i, bootcamps.get(i), error));
+                    return Mono.empty();
                 });
     }
 
@@ -53,17 +169,73 @@ public class BootcampUseCase implements BootcampServicePort {
     }
 
     @Override
-    public Mono<Page<Bootcamp>> list(PageRequest pageRequest, SortBy sortBy, Order order) {
-        Mono<Long> totalMono = persistence.countAll();
-        return persistence.findPage(pageRequest, sortBy, order)
-                .collectList()
-                .zipWith(totalMono)
-                .map(tuple -> Page.of(
-                        tuple.getT1(),              // List<Bootcamp>
-                        pageRequest.page(),
-                        pageRequest.size(),
-                        tuple.getT2()               // totalElements
-                ));
+    public Mono<Page<Bootcamp>> list(PageRequest pageRequest, SortBy sortBy, Order order, boolean includeTotal) {
+        // Mono.zip suscribe ambas consultas a la vez: latencia = max(página, conteo)
+        return Mono.zip(
+                        persistence.findPage(pageRequest, sortBy, order).collectList(),
+                        totalOrEmpty(includeTotal))
+                .map(tuple -> {
+                    List<Bootcamp> content = tuple.getT1();
+                    Long total = tuple.getT2().orElse(null);
+                    // cursor del último elemento para continuar en modo keyset;
+                    // sin total, una página llena indica que puede haber más
+                    boolean hasNext = !content.isEmpty() && (total != null
+                            ? pageRequest.offset() + content.size() < total
+                            : content.size() == pageRequest.size());
+                    return Page.of(
+                            content,
+                            pageRequest.page(),
+                            pageRequest.size(),
+                            total,
+                            hasNext ? lastCursor(content, sortBy, order) : null
+                    );
+                });
+    }
+
+    @Override
+    public Mono<Page<Bootcamp>> listAfter(PageCursor cursor, int size, SortBy sortBy, Order order, boolean includeTotal) {
+        if (size < 1 || size > 100) throw new IllegalArgumentException("size must be 1..100");
+        if (cursor != null && (cursor.sortBy() != sortBy || cursor.order() != order)) {
+            return Mono.error(new BusinessException(TechnicalMessage.INVALID_CURSOR));
+        }
+
+        // se pide un elemento de más para saber si existe una página siguiente
+        return Mono.zip(
+                        persistence.findPageAfter(cursor, size + 1, sortBy, order).collectList(),
+                        totalOrEmpty(includeTotal))
+                .map(tuple -> {
+                    List<Bootcamp> rows = tuple.getT1();
+                    boolean hasNext = rows.size() > size;
+                    List<Bootcamp> content = hasNext ? rows.subList(0, size) : rows;
+                    return Page.of(
+                            content,
+                            null,
+                            size,
+                            tuple.getT2().orElse(null),
+                            hasNext ? lastCursor(content, sortBy, order) : null
+                    );
+                });
+    }
+
+    /* ====================== Conteo total cacheado ====================== */
+
+    private Mono<Optional<Long>> totalOrEmpty(boolean includeTotal) {
+        return includeTotal ? cachedTotal().map(Optional::of) : Mono.just(Optional.empty());
+    }
+
+    // COUNT(*) compartido durante totalCountTtl; los errores no se cachean
+    private Mono<Long> cachedTotal() {
+        Mono<Long> cached = totalCache.get();
+        if (cached == null) {
+            Mono<Long> fresh = persistence.countAll()
+                    .cache(value -> totalCountTtl, error -> Duration.ZERO, () -> Duration.ZERO);
+            cached = totalCache.compareAndSet(null, fresh) ? fresh : totalCache.get();
+        }
+        return cached;
+    }
+
+    private void catalogChanged() {
+        totalCache.set(null);
     }
 
     /* ====================== Helpers sincrónicos ====================== */
@@ -83,6 +255,10 @@ public class BootcampUseCase implements BootcampServicePort {
         }
     }
 
+    private static PageCursor lastCursor(List<Bootcamp> content, SortBy sortBy, Order order) {
+        return PageCursor.after(content.get(content.size() - 1), sortBy, order);
+    }
+
     private List<Long> capacityIdsOrEmpty(Bootcamp b) {
         return Optional.ofNullable(b.getCapacityIds()).orElse(List.of());
     }
@@ -109,6 +285,15 @@ public class BootcampUseCase implements BootcampServicePort {
                         : Mono.error(new BusinessException(TechnicalMessage.CAPACITY_NOT_FOUND)));
     }
 
+    // Suscribe ambas validaciones a la vez y espera a las dos: el error que se propaga no depende
+    // de cuál termine antes, sino del orden de los argumentos (capacities antes que nombre)
+    private static Mono<Void> firstErrorInOrder(Mono<Void> first, Mono<Void> second) {
+        return Mono.zip(first.materialize(), second.materialize())
+                .flatMap(signals -> signals.getT1().isOnError() ? Mono.<Void>error(signals.getT1().getThrowable())
+                        : signals.getT2().isOnError() ? Mono.<Void>error(signals.getT2().getThrowable())
+                        : Mono.<Void>empty());
+    }
+
     private Mono<Void> ensureNameIsUnique(String name) {
         return persistence.existsByName(name)
                 .flatMap(exists -> Boolean.TRUE.equals(exists)
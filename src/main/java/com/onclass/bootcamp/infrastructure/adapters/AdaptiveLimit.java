@@ -0,0 +1,150 @@
+package com.onclass.bootcamp.infrastructure.adapters;
+
+import java.util.Arrays;
+import java.util.function.LongSupplier;
+
+// Límite de concurrencia de un downstream ajustado con cada llamada terminada (AIMD con señal de latencia,
+// al estilo de Vegas / Gradient):
+// - RTT observado: mediana de las últimas RTT_SAMPLES llamadas correctas (una muestra lenta suelta no cuenta)
+// - RTT base: el mínimo de esa mediana en las últimas BASELINE_WINDOWS ventanas de minRttWindow muestras;
+//   si el downstream cambia de base, se sigue cuando esas ventanas salen del horizonte
+// - una decisión por ronda (`limit` llamadas terminadas): mediana > rttTolerance x base = limit x backoffRatio;
+//   si no, +1 si el límite estuvo en uso (al menos la mitad ocupada) durante la ronda
+// - error de sobrecarga: limit x backoffRatio
+// - como mucho una bajada por ventana de RTT observado: tras bajar, las llamadas que salieron antes de la
+//   bajada no vuelven a bajarlo ni entran en la mediana (todavía reflejan la carga anterior)
+// Con enabled=false el límite queda fijo en el inicial.
+public class AdaptiveLimit {
+
+    private static final int RTT_SAMPLES = 64;
+    private static final int MIN_RTT_SAMPLES = 16;
+    private static final int BASELINE_WINDOWS = 10;
+
+    private final boolean enabled;
+    private final int minLimit;
+    private final int maxLimit;
+    private final double backoffRatio;
+    private final double rttTolerance;
+    private final int minRttWindow;
+    private final LongSupplier nanoTime;
+
+    private double limit;
+
+    // Últimos RTT (anillo) y llamadas de la ronda en curso
+    private final long[] rtts = new long[RTT_SAMPLES];
+    private int rttCount;
+    private int rttNext;
+    private int roundSamples;
+    private boolean roundInUse;
+
+    // Mínimo de la mediana por ventana: la actual y las BASELINE_WINDOWS anteriores (anillo)
+    private final long[] windowMins = new long[BASELINE_WINDOWS];
+    private long currentWindowMin = Long.MAX_VALUE;
+    private int windowSamples;
+    private int windowNext;
+
+    private boolean decreased;
+    private long lastDecreaseNanos;
+
+    public AdaptiveLimit(boolean enabled, int initialLimit, int minLimit, int maxLimit,
+                         double backoffRatio, double rttTolerance, int minRttWindow) {
+        this(enabled, initialLimit, minLimit, maxLimit, backoffRatio, rttTolerance, minRttWindow, System::nanoTime);
+    }
+
+    AdaptiveLimit(boolean enabled, int initialLimit, int minLimit, int maxLimit,
+                  double backoffRatio, double rttTolerance, int minRttWindow, LongSupplier nanoTime) {
+        this.enabled = enabled;
+        this.minLimit = Math.max(1, minLimit);
+        this.maxLimit = Math.max(this.minLimit, maxLimit);
+        this.backoffRatio = backoffRatio;
+        this.rttTolerance = rttTolerance;
+        this.minRttWindow = Math.max(1, minRttWindow);
+        this.nanoTime = nanoTime;
+        this.limit = enabled ? clamp(initialLimit) : Math.max(1, initialLimit);
+        Arrays.fill(windowMins, Long.MAX_VALUE);
+    }
+
+    public synchronized int current() {
+        return (int) limit;
+    }
+
+    // Devuelve el límite resultante; inFlight = llamadas en vuelo cuando salió esta
+    public synchronized int onSuccess(long rttNanos, int inFlight) {
+        if (!enabled || sentBeforeLastDecrease(rttNanos)) return current();
+
+        rtts[rttNext] = rttNanos;
+        rttNext = (rttNext + 1) % RTT_SAMPLES;
+        rttCount = Math.min(rttCount + 1, RTT_SAMPLES);
+        roundInUse |= inFlight * 2 >= limit;
+        if (++windowSamples >= minRttWindow) rotateWindow();
+        if (++roundSamples < limit || rttCount < MIN_RTT_SAMPLES) return current();
+
+        long observed = medianRtt();
+        currentWindowMin = Math.min(currentWindowMin, observed);
+        if (observed > baselineRtt() * rttTolerance) {
+            decrease();
+        } else {
+            if (roundInUse) limit = clamp(limit + 1);
+            startRound();
+        }
+        return current();
+    }
+
+    // rttNanos = lo que tardó en fallar la llamada
+    public synchronized int onOverload(long rttNanos) {
+        if (!enabled || sentBeforeLastDecrease(rttNanos)) return current();
+        decrease();
+        return current();
+    }
+
+    /* ====================== helpers ====================== */
+
+    private boolean sentBeforeLastDecrease(long rttNanos) {
+        return decreased && nanoTime.getAsLong() - rttNanos - lastDecreaseNanos < 0;
+    }
+
+    // Después de bajar se empieza de cero: la mediana se vuelve a medir con llamadas posteriores a la bajada
+    private void decrease() {
+        limit = clamp(Math.floor(limit * backoffRatio));
+        decreased = true;
+        lastDecreaseNanos = nanoTime.getAsLong();
+        rttCount = 0;
+        startRound();
+    }
+
+    private void startRound() {
+        roundSamples = 0;
+        roundInUse = false;
+    }
+
+    private void rotateWindow() {
+        windowMins[windowNext] = currentWindowMin;
+        windowNext = (windowNext + 1) % BASELINE_WINDOWS;
+        currentWindowMin = Long.MAX_VALUE;
+        windowSamples = 0;
+    }
+
+    private long medianRtt() {
+        long[] sorted = rttCount == RTT_SAMPLES ? rtts.clone() : latestRtts();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2];
+    }
+
+    private long[] latestRtts() {
+        long[] latest = new long[rttCount];
+        for (int i = 0; i < rttCount; i++) {
+            latest[i] = rtts[Math.floorMod(rttNext - 1 - i, RTT_SAMPLES)];
+        }
+        return latest;
+    }
+
+    private long baselineRtt() {
+        long baseline = currentWindowMin;
+        for (long windowMin : windowMins) baseline = Math.min(baseline, windowMin);
+        return baseline;
+    }
+
+    private double clamp(double value) {
+        return Math.max(minLimit, Math.min(maxLimit, value));
+    }
+}
@@ -0,0 +1,67 @@
+package com.onclass.bootcamp.infrastructure.adapters;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.experimental.UtilityClass;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+
+@UtilityClass
+public class BulkEndpoints {
+
+    // Un downstream sin endpoint por lotes responde 404/405/501, o bien otro recurso
+    // (p. ej. un listado paginado) cuyo cuerpo no se puede decodificar como lista.
+    public static boolean isUnsupported(Throwable ex) {
+        if (ex instanceof DecodingException) return true;
+        if (ex instanceof WebClientResponseException wre) {
+            int status = wre.getStatusCode().value();
+            return status == HttpStatus.NOT_FOUND.value()
+                    || status == HttpStatus.METHOD_NOT_ALLOWED.value()
+                    || status == HttpStatus.NOT_IMPLEMENTED.value();
+        }
+        return false;
+    }
+
+    // Cuerpo de un listado: array JSON, o envoltorio APIResponse {"data": [...]}. Capacity-service envuelve
+    // y technology-service responde sin envoltorio en GET por ID; en los listados se aceptan las dos formas.
+    // Cualquier otra forma (p. ej. una página con content) es DecodingException, es decir, "sin bulk".
+    public static <T> Flux<T> items(JsonNode body, Class<T> type, ObjectMapper objectMapper) {
+        JsonNode list = body != null && body.isObject() ? body.get("data") : body;
+        if (list == null || !list.isArray()) {
+            return Flux.error(new DecodingException("Expected a JSON array or {\"data\": [...]} for " + type.getSimpleName()));
+        }
+        try {
+            return Flux.fromIterable(objectMapper.readerForListOf(type).<List<T>>readValue(list));
+        } catch (IOException ex) {
+            return Flux.error(new DecodingException("Cannot decode " + type.getSimpleName() + " list", ex));
+        }
+    }
+
+    // Bulk apagado tras una respuesta "no soportado": se vuelve a probar pasado reprobeAfter, así un error
+    // puntual (un 404 de un proxy, un cuerpo raro) no deja al adapter en N+1 para siempre
+    public static final class Availability {
+        private volatile boolean disabled;
+        private volatile long disabledAtNanos;
+
+        public boolean isAvailable(Duration reprobeAfter) {
+            if (!disabled) return true;
+            if (System.nanoTime() - disabledAtNanos < reprobeAfter.toNanos()) return false;
+            disabled = false;
+            return true;
+        }
+
+        // true solo para quien lo apaga (para loguear una vez por periodo)
+        public synchronized boolean disable() {
+            if (disabled) return false;
+            disabledAtNanos = System.nanoTime();
+            disabled = true;
+            return true;
+        }
+    }
+}
@@ -0,0 +1,309 @@
+package com.onclass.bootcamp.infrastructure.adapters;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+import reactor.util.context.Context;
+import reactor.util.context.ContextView;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// Límite de llamadas en vuelo hacia un downstream, compartido por todos los requests, sin bloquear hilos:
+// - global: hasta limit llamadas en vuelo (AdaptiveLimit lo ajusta con el RTT y los errores de cada llamada
+//   terminada); las siguientes esperan en una cola FIFO de maxQueued como mucho
+//   y queueTimeout como máximo. Cola llena o espera agotada = ConcurrencyLimitExceededException (se descarta
+//   la llamada, el listado sale parcial)
+// - por request: hasta perRequest llamadas del mismo request en vuelo o en la cola global; el resto espera
+//   dentro del propio request (perRequestMaxQueued como mucho, después request_queue_full), así una página
+//   grande no ocupa toda la cola. Solo si el handler instaló contextWrite(ConcurrencyLimiter::install)
+// Métricas: gateway.limiter.in_flight / queued / limit{downstream}, gateway.limiter.rejected{downstream, reason}
+public class ConcurrencyLimiter {
+
+    private static final Class<RequestShares> KEY = RequestShares.class;
+
+    private final String downstream;
+    private final int perRequest;
+    private final int perRequestMaxQueued;
+    private final Duration queueTimeout;
+    private final Permits global;
+    private final AdaptiveLimit adaptiveLimit;
+    private final Counter queueFull;
+    private final Counter queueTimedOut;
+    private final Counter requestQueueFull;
+
+    public ConcurrencyLimiter(String downstream, AdaptiveLimit adaptiveLimit, int maxQueued, Duration queueTimeout,
+                              int perRequest, int perRequestMaxQueued, MeterRegistry registry) {
+        this.downstream = downstream;
+        this.perRequest = Math.max(1, perRequest);
+        this.perRequestMaxQueued = Math.max(0, perRequestMaxQueued);
+        this.queueTimeout = queueTimeout;
+        this.adaptiveLimit = adaptiveLimit;
+        this.global = new Permits(adaptiveLimit.current(), Math.max(0, maxQueued));
+        Gauge.builder("gateway.limiter.in_flight", global, Permits::inUse)
+                .tag("downstream", downstream)
+                .register(registry);
+        Gauge.builder("gateway.limiter.queued", global, Permits::queued)
+                .tag("downstream", downstream)
+                .register(registry);
+        Gauge.builder("gateway.limiter.limit", global, Permits::limit)
+                .tag("downstream", downstream)
+                .register(registry);
+        this.queueFull = rejected(downstream, "queue_full", registry);
+        this.queueTimedOut = rejected(downstream, "queue_timeout", registry);
+        this.requestQueueFull = rejected(downstream, "request_queue_full", registry);
+    }
+
+    public static Context install(Context context) {
+        return context.hasKey(KEY) ? context : context.put(KEY, new RequestShares());
+    }
+
+    public <T> Mono<T> limit(Mono<T> call) {
+        return Mono.deferContextual(ctx -> acquire(ctx)
+                .flatMap(lease -> {
+                    long startNanos = System.nanoTime();
+                    int inFlight = global.inUse();
+                    return call
+                            .doOnSuccess(value -> onSuccess(startNanos, inFlight))
+                            .doOnError(ex -> onError(ex, startNanos))
+                            .doFinally(signal -> lease.release());
+                }));
+    }
+
+    public <T> Flux<T> limit(Flux<T> call) {
+        return Flux.deferContextual(ctx -> acquire(ctx)
+                .flatMapMany(lease -> {
+                    long startNanos = System.nanoTime();
+                    int inFlight = global.inUse();
+                    return call
+                            .doOnComplete(() -> onSuccess(startNanos, inFlight))
+                            .doOnError(ex -> onError(ex, startNanos))
+                            .doFinally(signal -> lease.release());
+                }));
+    }
+
+    // Concurrencia para el flatMap de un fetchByIds: el límite actual, sin pasar del cupo de un request
+    public int concurrency() {
+        return Math.min(global.limit(), perRequest);
+    }
+
+    public String getDownstream() {
+        return downstream;
+    }
+
+    /* ====================== helpers ====================== */
+
+    // Primero el cupo del request (la espera la acota el deadline), después el global
+    private Mono<Lease> acquire(ContextView ctx) {
+        Mono<Lease> global = this.global.acquire()
+                .timeout(queueTimeout)
+                .onErrorMap(TimeoutException.class, ex -> {
+                    queueTimedOut.increment();
+                    return new ConcurrencyLimitExceededException(downstream, "queue_timeout");
+                })
+                .onErrorMap(QueueFullException.class, ex -> {
+                    queueFull.increment();
+                    return new ConcurrencyLimitExceededException(downstream, "queue_full");
+                });
+
+        return ctx.<RequestShares>getOrEmpty(KEY)
+                .map(shares -> shares.of(downstream, perRequest, perRequestMaxQueued).acquire()
+                        .onErrorMap(QueueFullException.class, ex -> {
+                            requestQueueFull.increment();
+                            return new ConcurrencyLimitExceededException(downstream, "request_queue_full");
+                        })
+                        .flatMap(share -> global
+                                .map(lease -> lease.then(share))
+                                .doOnError(ex -> share.release())
+                                .doOnCancel(share::release)))
+                .orElse(global);
+    }
+
+    private void onSuccess(long startNanos, int inFlight) {
+        global.setLimit(adaptiveLimit.onSuccess(System.nanoTime() - startNanos, inFlight));
+    }
+
+    // Los errores de contrato (4xx salvo 429, cuerpo no decodificable) y el deadline ya agotado no dicen
+    // nada de la carga del downstream; timeouts, 5xx, 429 y errores de conexión sí
+    private void onError(Throwable ex, long startNanos) {
+        if (ex instanceof Deadlines.DeadlineExceededException || ex instanceof DecodingException) return;
+        if (ex instanceof WebClientResponseException response
+                && response.getStatusCode().is4xxClientError()
+                && response.getStatusCode().value() != 429) return;
+        global.setLimit(adaptiveLimit.onOverload(System.nanoTime() - startNanos));
+    }
+
+    private static Counter rejected(String downstream, String reason, MeterRegistry registry) {
+        return Counter.builder("gateway.limiter.rejected")
+                .tag("downstream", downstream)
+                .tag("reason", reason)
+                .register(registry);
+    }
+
+    // Cupos por downstream de un request, guardados en el Context de Reactor
+    private static final class RequestShares {
+        private final Map<String, Permits> shares = new ConcurrentHashMap<>();
+
+        Permits of(String downstream, int perRequest, int maxQueued) {
+            return shares.computeIfAbsent(downstream, key -> new Permits(perRequest, maxQueued));
+        }
+    }
+
+    // Permiso concedido; release es idempotente (fin de la llamada y cancelación pueden llegar los dos)
+    static final class Lease {
+        private final Permits permits;
+        private final AtomicBoolean released = new AtomicBoolean(false);
+        private volatile Lease next;
+
+        private Lease(Permits permits) {
+            this.permits = permits;
+        }
+
+        // El permiso del request se devuelve junto con el global
+        Lease then(Lease other) {
+            this.next = other;
+            if (released.get()) other.release();
+            return this;
+        }
+
+        void release() {
+            if (released.compareAndSet(false, true)) {
+                permits.release();
+                Lease chained = next;
+                if (chained != null) chained.release();
+            }
+        }
+    }
+
+    // Semáforo no bloqueante con cola FIFO acotada; el límite se puede cambiar en caliente
+    static final class Permits {
+        private final int maxQueued;
+        private final Deque<Waiter> waiters = new ArrayDeque<>();
+        private int limit;
+        private int inUse;
+
+        Permits(int limit, int maxQueued) {
+            this.limit = limit;
+            this.maxQueued = maxQueued;
+        }
+
+        private static final class Waiter {
+            private final MonoSink<Lease> sink;
+            private Lease lease;
+
+            private Waiter(MonoSink<Lease> sink) {
+                this.sink = sink;
+            }
+        }
+
+        Mono<Lease> acquire() {
+            return Mono.create(sink -> {
+                Waiter waiter = new Waiter(sink);
+                sink.onCancel(() -> cancel(waiter));
+                Lease granted = null;
+                boolean full = false;
+                synchronized (this) {
+                    if (inUse < limit) {
+                        inUse++;
+                        granted = new Lease(this);
+                        waiter.lease = granted;
+                    } else if (waiters.size() >= maxQueued) {
+                        full = true;
+                    } else {
+                        waiters.addLast(waiter);
+                    }
+                }
+                if (granted != null) {
+                    sink.success(granted);
+                    return;
+                }
+                if (full) sink.error(new QueueFullException());
+            });
+        }
+
+        // Cancelado en la cola: se retira; si el permiso ya se le había concedido, se devuelve
+        private void cancel(Waiter waiter) {
+            Lease lease;
+            synchronized (this) {
+                if (waiters.remove(waiter)) return;
+                lease = waiter.lease;
+            }
+            if (lease != null) lease.release();
+        }
+
+        void release() {
+            Waiter next = null;
+            synchronized (this) {
+                if (inUse <= limit && !waiters.isEmpty()) {
+                    // el permiso pasa directamente al primero de la cola
+                    next = waiters.pollFirst();
+                    next.lease = new Lease(this);
+                } else {
+                    inUse--;
+                }
+            }
+            if (next != null) next.sink.success(next.lease);
+        }
+
+        // Si sube, entran de inmediato los primeros de la cola; si baja, las llamadas en vuelo terminan
+        // y no se conceden nuevos permisos hasta quedar por debajo
+        void setLimit(int newLimit) {
+            List<Waiter> granted = new ArrayList<>();
+            synchronized (this) {
+                if (newLimit == limit) return;
+                limit = Math.max(1, newLimit);
+                while (inUse < limit && !waiters.isEmpty()) {
+                    Waiter next = waiters.pollFirst();
+                    inUse++;
+                    next.lease = new Lease(this);
+                    granted.add(next);
+                }
+            }
+            granted.forEach(next -> next.sink.success(next.lease));
+        }
+
+        synchronized int limit() {
+            return limit;
+        }
+
+        synchronized int inUse() {
+            return inUse;
+        }
+
+        synchronized int queued() {
+            return waiters.size();
+        }
+    }
+
+    private static final class QueueFullException extends RuntimeException {
+        private QueueFullException() {
+            super(null, null, false, false);
+        }
+    }
+
+    // No se reintenta ni cuenta como fallo del downstream: la llamada no llegó a salir
+    public static class ConcurrencyLimitExceededException extends RuntimeException {
+        private final String reason;
+
+        public ConcurrencyLimitExceededException(String downstream, String reason) {
+            super("Concurrency limit exceeded for " + downstream + ": " + reason);
+            this.reason = reason;
+        }
+
+        public String getReason() {
+            return reason;
+        }
+    }
+}
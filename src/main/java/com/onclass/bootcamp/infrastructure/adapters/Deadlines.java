@@ -0,0 +1,63 @@
+package com.onclass.bootcamp.infrastructure.adapters;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+
+// Presupuesto de latencia de un request, guardado en el Context de Reactor como instante absoluto.
+// El handler lo instala con contextWrite(Deadlines.within(budget)); cada llamada a un downstream
+// usa como timeout el tiempo que queda (o el timeout por defecto del adapter si no hay deadline).
+public final class Deadlines {
+
+    private static final String KEY = Deadlines.class.getName();
+
+    private Deadlines() {
+    }
+
+    // El instante se fija al suscribirse, no al armar el pipeline
+    public static Function<Context, Context> within(Duration budget) {
+        return context -> context.hasKey(KEY)
+                ? context
+                : context.put(KEY, System.nanoTime() + budget.toNanos());
+    }
+
+    // Si lo que queda del deadline es menor que el timeout del adapter y se agota, el error es
+    // DeadlineExceededException: lo cortó el presupuesto del request, no la lentitud del downstream,
+    // así que no cuenta en el breaker ni en el limiter. El timeout propio del adapter sí (TimeoutException).
+    public static <T> Mono<T> bounded(Mono<T> call, Duration fallback) {
+        return Mono.deferContextual(ctx -> {
+            Optional<Long> deadline = ctx.getOrEmpty(KEY);
+            if (deadline.isEmpty()) return call.timeout(fallback);
+            long left = deadline.get() - System.nanoTime();
+            if (left <= 0) return Mono.error(new DeadlineExceededException());
+            return left < fallback.toNanos()
+                    ? call.timeout(Duration.ofNanos(left), Mono.error(DeadlineExceededException::new))
+                    : call.timeout(fallback);
+        });
+    }
+
+    public static <T> Flux<T> bounded(Flux<T> call, Duration fallback) {
+        return Flux.deferContextual(ctx -> {
+            Optional<Long> deadline = ctx.getOrEmpty(KEY);
+            if (deadline.isEmpty()) return call.timeout(fallback);
+            long left = deadline.get() - System.nanoTime();
+            if (left <= 0) return Flux.error(new DeadlineExceededException());
+            return left < fallback.toNanos()
+                    ? call.timeout(Duration.ofNanos(left), Flux.error(DeadlineExceededException::new))
+                    : call.timeout(fallback);
+        });
+    }
+
+    // No se reintenta ni cuenta como fallo del downstream: la llamada no llegó a salir,
+    // o la cortó el deadline del request antes que el timeout del adapter
+    public static class DeadlineExceededException extends TimeoutException {
+        public DeadlineExceededException() {
+            super("Request deadline exceeded");
+        }
+    }
+}
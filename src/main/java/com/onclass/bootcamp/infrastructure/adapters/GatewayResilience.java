@@ -0,0 +1,65 @@
+package com.onclass.bootcamp.infrastructure.adapters;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import io.github.resilience4j.reactor.retry.RetryOperator;
+import io.github.resilience4j.retry.Retry;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+// Límite de concurrencia, circuit breaker y retry de Resilience4j para cada llamada de un adapter.
+// Orden: Hedging( Retry( CircuitBreaker( Limiter( Deadline( llamada ) ) ) ) ):
+// - con el breaker abierto la llamada falla de inmediato con CallNotPermittedException, que el retry no reintenta
+// - sin cupo en el limiter (cola llena o espera agotada) falla con ConcurrencyLimitExceededException, que
+//   tampoco se reintenta ni abre el breaker
+// - cada intento usa como timeout lo que queda del deadline del request (o timeout si no hay), descontada
+//   la espera en la cola del limiter; si lo corta el deadline (DeadlineExceededException) no cuenta como
+//   fallo en el breaker ni en el limiter
+// - cada intento real se cuenta en bootcamp.list.downstream.calls del request (ListPipelineMetrics)
+// - la llamada de cobertura pasa otra vez por limiter / breaker, así que no se suma a un downstream saturado
+public class GatewayResilience {
+
+    private final String downstream;
+    private final CircuitBreaker circuitBreaker;
+    private final Retry retry;
+    private final ConcurrencyLimiter limiter;
+    private final HedgingPolicy hedging;
+    private final Duration timeout;
+
+    public GatewayResilience(String downstream, CircuitBreaker circuitBreaker, Retry retry, ConcurrencyLimiter limiter,
+                             HedgingPolicy hedging, Duration timeout) {
+        this.downstream = downstream;
+        this.circuitBreaker = circuitBreaker;
+        this.retry = retry;
+        this.limiter = limiter;
+        this.hedging = hedging;
+        this.timeout = timeout;
+    }
+
+    // Llamadas simultáneas de un fetchByIds: límite adaptativo actual del downstream, acotado por request
+    public int concurrency() {
+        return limiter.concurrency();
+    }
+
+    public <T> Mono<T> decorate(Mono<T> call) {
+        Mono<T> counted = Mono.deferContextual(ctx -> {
+            ListPipelineMetrics.callMade(ctx, downstream);
+            return call;
+        });
+        return hedging.apply(limiter.limit(Deadlines.bounded(counted, timeout))
+                .transformDeferred(CircuitBreakerOperator.of(circuitBreaker))
+                .transformDeferred(RetryOperator.of(retry)));
+    }
+
+    public <T> Flux<T> decorate(Flux<T> call) {
+        Flux<T> counted = Flux.deferContextual(ctx -> {
+            ListPipelineMetrics.callMade(ctx, downstream);
+            return call;
+        });
+        return hedging.apply(limiter.limit(Deadlines.bounded(counted, timeout))
+                .transformDeferred(CircuitBreakerOperator.of(circuitBreaker))
+                .transformDeferred(RetryOperator.of(retry)));
+    }
+}
@@ -0,0 +1,105 @@
+package com.onclass.bootcamp.infrastructure.adapters;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Hedging de llamadas idempotentes: si la primera no respondió al cumplirse el p95 observado
+// (nunca menos que minDelay), sale una segunda y gana la primera señal.
+// Para no sobrecargar al downstream solo se cubre hasta maxRatio de las llamadas.
+// Métricas: gateway.call.latency{downstream} (p95 usado como delay) y gateway.hedge.requests{downstream}.
+public class HedgingPolicy {
+
+    private static final long MIN_SAMPLES = 20;
+
+    private final boolean enabled;
+    private final Duration minDelay;
+    private final double maxRatio;
+    private final Timer latency;
+    private final Counter hedges;
+    private final AtomicLong calls = new AtomicLong();
+    private final AtomicLong hedged = new AtomicLong();
+
+    public HedgingPolicy(String downstream, boolean enabled, Duration minDelay, double maxRatio,
+                         MeterRegistry registry) {
+        this.enabled = enabled;
+        this.minDelay = minDelay;
+        this.maxRatio = maxRatio;
+        this.latency = Timer.builder("gateway.call.latency")
+                .tag("downstream", downstream)
+                .publishPercentiles(0.95)
+                .distributionStatisticExpiry(Duration.ofMinutes(1))
+                .register(registry);
+        this.hedges = Counter.builder("gateway.hedge.requests")
+                .tag("downstream", downstream)
+                .register(registry);
+    }
+
+    public <T> Mono<T> apply(Mono<T> call) {
+        Mono<T> primary = timed(call);
+        if (!enabled) return primary;
+        return Mono.defer(() -> {
+            calls.incrementAndGet();
+            return Mono.firstWithSignal(primary, hedge(call));
+        });
+    }
+
+    public <T> Flux<T> apply(Flux<T> call) {
+        Flux<T> primary = timed(call);
+        if (!enabled) return primary;
+        return Flux.defer(() -> {
+            calls.incrementAndGet();
+            return Flux.firstWithSignal(primary, hedge(call));
+        });
+    }
+
+    /* ====================== helpers ====================== */
+
+    // Sin cupo la segunda no se suscribe y queda en never(): un vacío ganaría el firstWithSignal
+    private <T> Mono<T> hedge(Mono<T> call) {
+        return Mono.delay(delay()).flatMap(t -> allowHedge() ? call : Mono.never());
+    }
+
+    private <T> Flux<T> hedge(Flux<T> call) {
+        return Mono.delay(delay()).flatMapMany(t -> allowHedge() ? call : Flux.never());
+    }
+
+    private <T> Mono<T> timed(Mono<T> call) {
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+            return call.doOnSuccess(v -> latency.record(System.nanoTime() - start, TimeUnit.NANOSECONDS));
+        });
+    }
+
+    private <T> Flux<T> timed(Flux<T> call) {
+        return Flux.defer(() -> {
+            long start = System.nanoTime();
+            return call.doOnComplete(() -> latency.record(System.nanoTime() - start, TimeUnit.NANOSECONDS));
+        });
+    }
+
+    private Duration delay() {
+        if (latency.count() < MIN_SAMPLES) return minDelay;
+        for (ValueAtPercentile p : latency.takeSnapshot().percentileValues()) {
+            if (p.percentile() == 0.95) {
+                long p95 = (long) p.value(TimeUnit.NANOSECONDS);
+                return p95 > minDelay.toNanos() ? Duration.ofNanos(p95) : minDelay;
+            }
+        }
+        return minDelay;
+    }
+
+    private boolean allowHedge() {
+        if (hedged.get() + 1 > calls.get() * maxRatio) return false;
+        hedged.incrementAndGet();
+        hedges.increment();
+        return true;
+    }
+}
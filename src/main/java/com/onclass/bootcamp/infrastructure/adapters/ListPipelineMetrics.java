@@ -0,0 +1,162 @@
+package com.onclass.bootcamp.infrastructure.adapters;
+
+import com.onclass.bootcamp.domain.model.Order;
+import com.onclass.bootcamp.domain.model.SortBy;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.observation.contextpropagation.ObservationThreadLocalAccessor;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+import reactor.util.context.ContextView;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+// Instrumentación de las etapas de GET /bootcamps:
+// - bootcamp.list.stage{stage, sortBy, order, size}: timer + span hijo del span HTTP por etapa
+//   (page_query, count_query, links, capacity_fanout, technology_fanout)
+// - bootcamp.list.downstream.calls{downstream}: llamadas HTTP reales por request (intentos y hedges incluidos)
+// - bootcamp.list.distinct.ids{entity}: IDs distintos pedidos por request
+// El handler crea un RequestStats por request (start) y lo pone en el Context (bind); las etapas y los
+// gateways lo completan; al terminar se registran las métricas por request (finish) y el handler
+// escribe RequestStats.summary() en su línea de log.
+// Fuera de un listado las etapas se etiquetan "none".
+@Component
+public class ListPipelineMetrics {
+
+    public static final String PAGE_QUERY = "page_query";
+    public static final String COUNT_QUERY = "count_query";
+    public static final String LINKS = "links";
+    public static final String CAPACITY_FANOUT = "capacity_fanout";
+    public static final String TECHNOLOGY_FANOUT = "technology_fanout";
+
+    public static final List<String> DOWNSTREAMS = List.of("capacity-service", "technology-service");
+
+    private static final String STAGE = "bootcamp.list.stage";
+    private static final String STATS_KEY = ListPipelineMetrics.class.getName() + ".stats";
+
+    private final ObservationRegistry observationRegistry;
+    private final MeterRegistry meterRegistry;
+
+    // Conteos y tiempos de un listado; se escriben desde varios hilos (etapas y gateways en paralelo)
+    public static final class RequestStats {
+        private final long startNanos = System.nanoTime();
+        private final String sortBy;
+        private final String order;
+        private final String size;
+        private final Map<String, Long> stageMillis = new ConcurrentHashMap<>();
+        private final Map<String, AtomicInteger> calls = new ConcurrentHashMap<>();
+        private final Map<String, Integer> distinctIds = new ConcurrentHashMap<>();
+
+        private RequestStats(String sortBy, String order, String size) {
+            this.sortBy = sortBy;
+            this.order = order;
+            this.size = size;
+            DOWNSTREAMS.forEach(name -> calls.put(name, new AtomicInteger()));
+        }
+
+        // key=value para poder filtrar / parsear la línea en el agregador de logs
+        public String summary() {
+            return "sortBy=" + sortBy + " order=" + order + " sizeBucket=" + size
+                    + " elapsedMs=" + Duration.ofNanos(System.nanoTime() - startNanos).toMillis()
+                    + " stagesMs=" + new TreeMap<>(stageMillis)
+                    + " calls=" + new TreeMap<>(calls)
+                    + " distinctIds=" + new TreeMap<>(distinctIds);
+        }
+    }
+
+    private static final RequestStats NO_STATS = new RequestStats("none", "none", "none");
+
+    public ListPipelineMetrics(ObservationRegistry observationRegistry, MeterRegistry meterRegistry) {
+        this.observationRegistry = observationRegistry;
+        this.meterRegistry = meterRegistry;
+    }
+
+    public static RequestStats start(SortBy sortBy, Order order, int size) {
+        return new RequestStats(sortBy.name(), order.name(), sizeBucket(size));
+    }
+
+    public static Function<Context, Context> bind(RequestStats stats) {
+        return context -> context.put(STATS_KEY, stats);
+    }
+
+    // Registra las métricas por request al terminar el listado
+    public void finish(RequestStats stats) {
+        stats.calls.forEach((name, count) -> DistributionSummary.builder("bootcamp.list.downstream.calls")
+                .tag("downstream", name)
+                .register(meterRegistry)
+                .record(count.get()));
+        stats.distinctIds.forEach((entity, count) -> DistributionSummary.builder("bootcamp.list.distinct.ids")
+                .tag("entity", entity)
+                .register(meterRegistry)
+                .record(count));
+    }
+
+    public <T> Mono<T> observe(String stage, Mono<T> source) {
+        return Mono.deferContextual(ctx -> {
+            Observation observation = start(stage, ctx);
+            long startNanos = System.nanoTime();
+            return source
+                    .doOnError(observation::error)
+                    .doFinally(signal -> stop(observation, stage, startNanos, ctx))
+                    .contextWrite(c -> c.put(ObservationThreadLocalAccessor.KEY, observation));
+        });
+    }
+
+    public <T> Flux<T> observe(String stage, Flux<T> source) {
+        return Flux.deferContextual(ctx -> {
+            Observation observation = start(stage, ctx);
+            long startNanos = System.nanoTime();
+            return source
+                    .doOnError(observation::error)
+                    .doFinally(signal -> stop(observation, stage, startNanos, ctx))
+                    .contextWrite(c -> c.put(ObservationThreadLocalAccessor.KEY, observation));
+        });
+    }
+
+    public static void recordDistinctIds(ContextView context, String entity, int count) {
+        context.<RequestStats>getOrEmpty(STATS_KEY).ifPresent(stats -> stats.distinctIds.put(entity, count));
+    }
+
+    // Lo llama GatewayResilience en cada intento real contra el downstream
+    public static void callMade(ContextView context, String downstream) {
+        context.<RequestStats>getOrEmpty(STATS_KEY)
+                .ifPresent(stats -> stats.calls.computeIfAbsent(downstream, k -> new AtomicInteger()).incrementAndGet());
+    }
+
+    /* ====================== helpers ====================== */
+
+    private Observation start(String stage, ContextView ctx) {
+        RequestStats stats = ctx.getOrDefault(STATS_KEY, NO_STATS);
+        return Observation.createNotStarted(STAGE, observationRegistry)
+                .contextualName("bootcamp.list " + stage)
+                .lowCardinalityKeyValue("stage", stage)
+                .lowCardinalityKeyValue("sortBy", stats.sortBy)
+                .lowCardinalityKeyValue("order", stats.order)
+                .lowCardinalityKeyValue("size", stats.size)
+                .parentObservation(ctx.getOrDefault(ObservationThreadLocalAccessor.KEY, null))
+                .start();
+    }
+
+    private static void stop(Observation observation, String stage, long startNanos, ContextView ctx) {
+        observation.stop();
+        ctx.<RequestStats>getOrEmpty(STATS_KEY).ifPresent(stats -> stats.stageMillis.merge(
+                stage, Duration.ofNanos(System.nanoTime() - startNanos).toMillis(), Long::sum));
+    }
+
+    private static String sizeBucket(int size) {
+        if (size <= 10) return "le10";
+        if (size <= 20) return "le20";
+        if (size <= 50) return "le50";
+        return "le100";
+    }
+}
@@ -0,0 +1,16 @@
+package com.onclass.bootcamp.infrastructure.adapters;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+// Muestreo de logs por elemento (app.logging.element-sample-rate): solo una fracción de los eventos
+// llega al logger, así el formateo y la escritura no escalan con el número de filas / IDs.
+// Uso: if (log.isDebugEnabled() && LogSampling.sample(rate)) log.debug(...)
+public final class LogSampling {
+
+    private LogSampling() {
+    }
+
+    public static boolean sample(double rate) {
+        return rate >= 1.0 || (rate > 0 && ThreadLocalRandom.current().nextDouble() < rate);
+    }
+}
@@ -0,0 +1,151 @@
+package com.onclass.bootcamp.infrastructure.adapters.cache;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.onclass.bootcamp.domain.enums.TechnicalMessage;
+import com.onclass.bootcamp.domain.exceptions.TechnicalException;
+import com.onclass.bootcamp.infrastructure.adapters.Deadlines;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+
+import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// Caché local por ID sobre un lookup remoto (Caffeine):
+// - TTL y tamaño máximo
+// - las cargas concurrentes del mismo ID comparten el mismo future en vuelo
+// - los IDs que el downstream no devuelve (404) se guardan como Optional.empty() con un TTL más corto;
+//   los que fallan no se guardan y se reportan con un error al final del Flux
+// - una carga que supera loadTimeout cuenta como fallida (no se guarda lo que falte); cada suscriptor
+//   espera como mucho lo que le queda de su deadline (o loadTimeout), aunque la carga la haya lanzado otro
+// - la carga corre con el Context de quien la dispara (deadline, tracing)
+// - hits / misses / evictions se publican en Micrometer como cache.*{cache=<name>}
+public class ReactiveLookupCache<T> {
+
+    private final String name;
+    private final AsyncCache<Long, Optional<T>> cache;
+    private final Function<List<Long>, Flux<T>> loader;
+    private final Function<T, Long> idOf;
+    private final Duration loadTimeout;
+
+    public ReactiveLookupCache(String name,
+                               Duration ttl,
+                               Duration negativeTtl,
+                               long maxSize,
+                               Duration loadTimeout,
+                               Function<List<Long>, Flux<T>> loader,
+                               Function<T, Long> idOf,
+                               MeterRegistry registry) {
+        this(name, ttl, negativeTtl, maxSize, loadTimeout, loader, idOf, registry, Ticker.systemTicker());
+    }
+
+    // Con un Ticker propio para poder avanzar el reloj en los tests de expiración
+    ReactiveLookupCache(String name,
+                        Duration ttl,
+                        Duration negativeTtl,
+                        long maxSize,
+                        Duration loadTimeout,
+                        Function<List<Long>, Flux<T>> loader,
+                        Function<T, Long> idOf,
+                        MeterRegistry registry,
+                        Ticker ticker) {
+        this.name = name;
+        this.loader = loader;
+        this.idOf = idOf;
+        this.loadTimeout = loadTimeout;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new TtlExpiry<T>(ttl, negativeTtl))
+                .ticker(ticker)
+                .recordStats()
+                .buildAsync();
+        CaffeineCacheMetrics.monitor(registry, cache, name);
+    }
+
+    public Flux<T> getAll(List<Long> ids) {
+        if (ids == null || ids.isEmpty()) return Flux.empty();
+
+        List<Long> keys = List.copyOf(ids.stream().filter(Objects::nonNull)
+                .collect(Collectors.toCollection(LinkedHashSet::new)));
+
+        // suppressCancel: cancelar a un suscriptor (o que se le acabe el deadline) no cancela la carga
+        // que comparten otros
+        Mono<Map<Long, Optional<T>>> shared = Mono.deferContextual(ctx -> Mono.fromFuture(
+                () -> cache.getAll(keys, (missing, executor) -> load(missing, Context.of(ctx))), true));
+        return Deadlines.bounded(shared, loadTimeout)
+                .flatMapMany(found -> {
+                    List<T> values = keys.stream()
+                            .map(found::get)
+                            .filter(Objects::nonNull)
+                            .flatMap(Optional::stream)
+                            .toList();
+                    // un ID sin entrada (ni siquiera negativa) es uno cuya carga falló
+                    List<Long> failed = keys.stream().filter(id -> !found.containsKey(id)).toList();
+                    return failed.isEmpty()
+                            ? Flux.fromIterable(values)
+                            : Flux.fromIterable(values).concatWith(Flux.error(new TechnicalException(
+                                    new IllegalStateException(name + " lookup failed for ids " + failed),
+                                    TechnicalMessage.INTERNAL_ERROR_IN_ADAPTERS)));
+                });
+    }
+
+    public void invalidateAll() {
+        cache.synchronous().invalidateAll();
+    }
+
+    // Si el downstream falla, se guardan solo los valores obtenidos: sin entradas negativas,
+    // porque no se puede distinguir un 404 de un fallo para los IDs restantes.
+    private CompletableFuture<Map<Long, Optional<T>>> load(Set<? extends Long> missing, Context context) {
+        List<Long> request = List.copyOf(missing);
+        AtomicBoolean failed = new AtomicBoolean(false);
+        return loader.apply(request)
+                .takeUntilOther(Mono.delay(loadTimeout).doOnNext(tick -> failed.set(true)))
+                .onErrorResume(ex -> {
+                    failed.set(true);
+                    return Flux.empty();
+                })
+                .filter(value -> idOf.apply(value) != null)
+                .collectMap(idOf, Function.identity())
+                .map(found -> failed.get()
+                        ? found.entrySet().stream().collect(Collectors.toMap(
+                                Map.Entry::getKey,
+                                e -> Optional.of(e.getValue())))
+                        : request.stream().collect(Collectors.toMap(
+                                Function.identity(),
+                                id -> Optional.ofNullable(found.get(id)))))
+                .contextWrite(context)
+                .toFuture();
+    }
+
+    private record TtlExpiry<T>(Duration ttl, Duration negativeTtl) implements Expiry<Long, Optional<T>> {
+
+        @Override
+        public long expireAfterCreate(Long key, Optional<T> value, long currentTime) {
+            return (value.isPresent() ? ttl : negativeTtl).toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(Long key, Optional<T> value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(Long key, Optional<T> value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.onclass.bootcamp.infrastructure.adapters.capacityadapter;
+
+import com.onclass.bootcamp.domain.spi.CapacityGatewayPort;
+import com.onclass.bootcamp.infrastructure.adapters.cache.ReactiveLookupCache;
+import com.onclass.bootcamp.infrastructure.entrypoints.dto.CapacityDTO;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+
+// Decorador de CapacityGatewayPort que sirve las capacities desde una caché local por ID.
+// Solo las lecturas (fetchByIds): la validación de existencia va siempre al delegate, así un ID borrado
+// no sigue pasando durante el ttl ni uno recién creado queda rechazado durante el negative-ttl
+public class CachedCapacityGatewayAdapter implements CapacityGatewayPort {
+
+    private final ReactiveLookupCache<CapacityDTO> cache;
+    private final CapacityGatewayPort delegate;
+
+    public CachedCapacityGatewayAdapter(ReactiveLookupCache<CapacityDTO> cache, CapacityGatewayPort delegate) {
+        this.cache = cache;
+        this.delegate = delegate;
+    }
+
+    @Override
+    public Flux<Long> findExistingIds(List<Long> ids) {
+        return delegate.findExistingIds(ids);
+    }
+
+    @Override
+    public Flux<CapacityDTO> fetchByIds(List<Long> ids) {
+        return cache.getAll(ids);
+    }
+}
@@ -1,6 +1,13 @@
 package com.onclass.bootcamp.infrastructure.adapters.capacityadapter;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.onclass.bootcamp.domain.enums.TechnicalMessage;
+import com.onclass.bootcamp.domain.exceptions.TechnicalException;
 import com.onclass.bootcamp.domain.spi.CapacityGatewayPort;
+import com.onclass.bootcamp.infrastructure.adapters.BulkEndpoints;
+import com.onclass.bootcamp.infrastructure.adapters.GatewayResilience;
+import com.onclass.bootcamp.infrastructure.adapters.LogSampling;
 import com.onclass.bootcamp.infrastructure.entrypoints.dto.CapacityDTO;
 import com.onclass.bootcamp.infrastructure.entrypoints.util.APIResponse;
 import lombok.RequiredArgsConstructor;
@@ -9,6 +16,7 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
@@ -22,16 +30,39 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class CapacityWebClientAdapter implements CapacityGatewayPort {
 
-    private final WebClient.Builder builder;
+    // Bean de WebConfig con baseUrl y el pool de conexiones propio del downstream
+    private final WebClient capacityWebClient;
 
-    @Value("${app.capacity.base-url}")
-    private String baseUrl;
+    // capacityClient / capacityRetry de application.yml, más limiter, deadline y hedging (app.capacity.*)
+    private final GatewayResilience capacityResilience;
 
-    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+    // Cuerpos de listados (bulk y snapshot) con o sin envoltorio APIResponse (ver BulkEndpoints.items)
+    private final ObjectMapper objectMapper;
 
-    private WebClient client() {
-        return builder.baseUrl(baseUrl).build();
-    }
+    // single: GET /capacities/{id} por ID | bulk: GET /capacities?ids=1,2,3 por bloques
+    @Value("${app.capacity.fetch-mode:single}")
+    private String fetchMode;
+
+    @Value("${app.capacity.chunk-size:50}")
+    private int chunkSize;
+
+    // Tras un "sin endpoint por lotes" se usa el camino por ID durante este tiempo y después se vuelve a probar
+    @Value("${app.capacity.bulk-reprobe-after:5m}")
+    private Duration bulkReprobeAfter;
+
+    // Fracción de IDs cuyo detalle se loguea en DEBUG (ver LogSampling)
+    @Value("${app.logging.element-sample-rate:0.01}")
+    private double logSampleRate;
+
+    // Catálogo completo para CatalogSnapshot (app.capacity.snapshot.*)
+    @Value("${app.capacity.snapshot.path:/capacities}")
+    private String snapshotPath;
+
+    @Value("${app.capacity.snapshot.timeout:30s}")
+    private Duration snapshotTimeout;
+
+    // Se apaga si el downstream no expone el endpoint por lotes (ver bulkReprobeAfter)
+    private final BulkEndpoints.Availability bulkAvailability = new BulkEndpoints.Availability();
 
     @Override
     public Flux<Long> findExistingIds(List<Long> ids) {
@@ -39,29 +70,92 @@ public class CapacityWebClientAdapter implements CapacityGatewayPort {
 
         return fetchByIds(ids)
                 .map(CapacityDTO::getId)
-                .distinct()
-                .timeout(TIMEOUT);
+                .distinct();
     }
 
+    // 404 = el ID no existe (sin elemento). Cualquier otro error llega al llamador después de
+    // emitir los IDs que sí se obtuvieron, como TechnicalException(INTERNAL_ERROR_IN_ADAPTERS).
     @Override
     public Flux<CapacityDTO> fetchByIds(List<Long> ids) {
         if (ids == null || ids.isEmpty()) return Flux.empty();
 
-        WebClient wc = client();
-        int concurrency = 5;
-
-        return Flux.fromIterable(distinct(ids))
-                .flatMap(id ->
-                                wc.get()
-                                        .uri(uriBuilder -> uriBuilder.path("/capacities/{id}").build(id))
-                                        .retrieve()
-                                        .bodyToMono(new ParameterizedTypeReference<APIResponse<CapacityDTO>>() {})
-                                        .map(APIResponse::getData)
-                                        .doOnNext(c -> log.info("Fetched capacity {} -> {}", id, c))
-                                        .doOnError(ex -> log.error("Error fetching capacity {}", id, ex))
-                                        .onErrorResume(ex -> Mono.empty()),
-                        concurrency
-                );
+        WebClient wc = capacityWebClient;
+        List<Long> distinctIds = distinct(ids);
+
+        Flux<CapacityDTO> result = isBulkMode()
+                ? Flux.fromIterable(distinctIds)
+                        .buffer(Math.max(1, chunkSize))
+                        .flatMapDelayError(chunk -> fetchChunk(wc, chunk), capacityResilience.concurrency(), 1)
+                : fetchOneByOne(wc, distinctIds);
+
+        return result.onErrorMap(ex -> new TechnicalException(ex, TechnicalMessage.INTERNAL_ERROR_IN_ADAPTERS));
+    }
+
+    // Corre en segundo plano (sin deadline de request ni hedging): un solo GET con su propio timeout
+    public Flux<CapacityDTO> fetchAll() {
+        return capacityWebClient.get()
+                .uri(snapshotPath)
+                .retrieve()
+                .bodyToMono(JsonNode.class)
+                .flatMapMany(body -> BulkEndpoints.items(body, CapacityDTO.class, objectMapper))
+                .timeout(snapshotTimeout)
+                .onErrorMap(ex -> new TechnicalException(ex, TechnicalMessage.INTERNAL_ERROR_IN_ADAPTERS));
+    }
+
+    /* ====================== helpers ====================== */
+
+    private boolean isBulkMode() {
+        return "bulk".equalsIgnoreCase(fetchMode) && bulkAvailability.isAvailable(bulkReprobeAfter);
+    }
+
+    private Flux<CapacityDTO> fetchOneByOne(WebClient wc, List<Long> ids) {
+        return Flux.fromIterable(ids)
+                .flatMapDelayError(id -> fetchOne(wc, id), capacityResilience.concurrency(), 1);
+    }
+
+    private Mono<CapacityDTO> fetchOne(WebClient wc, Long id) {
+        Mono<CapacityDTO> call = wc.get()
+                .uri(uriBuilder -> uriBuilder.path("/capacities/{id}").build(id))
+                .retrieve()
+                .bodyToMono(new ParameterizedTypeReference<APIResponse<CapacityDTO>>() {})
+                .map(APIResponse::getData)
+                .onErrorResume(WebClientResponseException.NotFound.class, ex -> Mono.empty());
+
+        return capacityResilience.decorate(call)
+                .doOnNext(c -> {
+                    if (log.isDebugEnabled() && LogSampling.sample(logSampleRate)) {
+                        log.debug("Fetched capacity {} -> {}", id, c);
+                    }
+                })
+                // el error llega al llamador (que lo registra una vez por request); aquí solo muestreado
+                .doOnError(ex -> {
+                    if (log.isDebugEnabled() && LogSampling.sample(logSampleRate)) {
+                        log.debug("Error fetching capacity {}", id, ex);
+                    }
+                });
+    }
+
+    private Flux<CapacityDTO> fetchChunk(WebClient wc, List<Long> chunk) {
+        Set<Long> requested = Set.copyOf(chunk);
+        String csv = chunk.stream().map(String::valueOf).collect(Collectors.joining(","));
+
+        Flux<CapacityDTO> call = wc.get()
+                .uri(uriBuilder -> uriBuilder.path("/capacities").queryParam("ids", csv).build())
+                .retrieve()
+                .bodyToMono(JsonNode.class)
+                .flatMapMany(body -> BulkEndpoints.items(body, CapacityDTO.class, objectMapper))
+                .filter(c -> c.getId() != null && requested.contains(c.getId()));
+
+        return capacityResilience.decorate(call)
+                .doOnComplete(() -> log.debug("Fetched {} capacities in bulk", chunk.size()))
+                .onErrorResume(BulkEndpoints::isUnsupported, ex -> {
+                    if (bulkAvailability.disable()) {
+                        log.warn("Capacity-service has no bulk endpoint, falling back to per-ID requests for {}",
+                                bulkReprobeAfter, ex);
+                    }
+                    return fetchOneByOne(wc, chunk);
+                })
+                .doOnError(ex -> log.warn("Error fetching {} capacities in bulk: {}", chunk.size(), ex.toString()));
     }
 
     private static List<Long> distinct(List<Long> ids) {
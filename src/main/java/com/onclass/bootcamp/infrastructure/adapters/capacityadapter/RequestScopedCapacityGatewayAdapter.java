@@ -0,0 +1,38 @@
+package com.onclass.bootcamp.infrastructure.adapters.capacityadapter;
+
+import com.onclass.bootcamp.domain.spi.CapacityGatewayPort;
+import com.onclass.bootcamp.infrastructure.adapters.loader.BatchLoader;
+import com.onclass.bootcamp.infrastructure.adapters.loader.RequestLoaders;
+import com.onclass.bootcamp.infrastructure.entrypoints.dto.CapacityDTO;
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+import java.util.List;
+
+// Decorador de CapacityGatewayPort que agrupa y deduplica los lookups de un mismo request
+public class RequestScopedCapacityGatewayAdapter implements CapacityGatewayPort {
+
+    private static final String LOADER = "capacities";
+
+    private final CapacityGatewayPort delegate;
+    private final Duration window;
+
+    public RequestScopedCapacityGatewayAdapter(CapacityGatewayPort delegate, Duration window) {
+        this.delegate = delegate;
+        this.window = window;
+    }
+
+    @Override
+    public Flux<Long> findExistingIds(List<Long> ids) {
+        return fetchByIds(ids).map(CapacityDTO::getId);
+    }
+
+    @Override
+    public Flux<CapacityDTO> fetchByIds(List<Long> ids) {
+        return Flux.deferContextual(ctx -> RequestLoaders.from(ctx)
+                .map(scope -> scope.loader(LOADER,
+                                () -> new BatchLoader<>(delegate::fetchByIds, CapacityDTO::getId, window))
+                        .load(ids))
+                .orElseGet(() -> delegate.fetchByIds(ids)));
+    }
+}
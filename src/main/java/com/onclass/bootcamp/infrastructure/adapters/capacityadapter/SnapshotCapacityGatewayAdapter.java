@@ -0,0 +1,38 @@
+package com.onclass.bootcamp.infrastructure.adapters.capacityadapter;
+
+import com.onclass.bootcamp.domain.spi.CapacityGatewayPort;
+import com.onclass.bootcamp.infrastructure.adapters.snapshot.CatalogSnapshot;
+import com.onclass.bootcamp.infrastructure.entrypoints.dto.CapacityDTO;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+
+// Decorador de CapacityGatewayPort que sirve desde el snapshot en memoria;
+// solo los IDs que no están (capacities nuevas desde la última recarga) van al delegate
+public class SnapshotCapacityGatewayAdapter implements CapacityGatewayPort {
+
+    private final CatalogSnapshot<CapacityDTO> snapshot;
+    private final CapacityGatewayPort delegate;
+
+    public SnapshotCapacityGatewayAdapter(CatalogSnapshot<CapacityDTO> snapshot, CapacityGatewayPort delegate) {
+        this.snapshot = snapshot;
+        this.delegate = delegate;
+    }
+
+    // Validación de existencia: siempre al delegate (un ID borrado no debe pasar hasta la próxima recarga)
+    @Override
+    public Flux<Long> findExistingIds(List<Long> ids) {
+        return delegate.findExistingIds(ids);
+    }
+
+    @Override
+    public Flux<CapacityDTO> fetchByIds(List<Long> ids) {
+        if (ids == null || ids.isEmpty()) return Flux.empty();
+        if (!snapshot.isReady()) return delegate.fetchByIds(ids);
+
+        CatalogSnapshot.Lookup<CapacityDTO> lookup = snapshot.lookup(ids);
+        return lookup.misses().isEmpty()
+                ? Flux.fromIterable(lookup.hits())
+                : Flux.fromIterable(lookup.hits()).concatWith(delegate.fetchByIds(lookup.misses()));
+    }
+}
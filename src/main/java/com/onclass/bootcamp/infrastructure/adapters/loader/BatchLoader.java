@@ -0,0 +1,106 @@
+package com.onclass.bootcamp.infrastructure.adapters.loader;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.context.Context;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+// Loader estilo DataLoader con vida de un request:
+// - las llamadas a load() dentro de la misma ventana se agrupan en un solo fetch al downstream
+// - cada ID se pide una sola vez por request; las siguientes llamadas reusan el resultado
+// - cada llamador recibe solo su porción, en el orden pedido
+// - si el fetch falla (también si el fetcher lanza al construirse), los IDs ya recibidos se entregan
+//   y el resto termina en error (resultado parcial)
+// El fetch agrupado se suscribe una vez, con el Context del llamador que abrió la ventana. Como el loader
+// vive en un request, lo que el handler pone en el Context (deadline, cupo del limiter, RequestStats, traza
+// HTTP) es el mismo para todos los llamadores; lo propio de ese llamador (p. ej. el span de su etapa,
+// padre de las llamadas HTTP) no se mezcla con el de los demás. Que ese llamador cancele no corta el
+// fetch: los demás siguen esperándolo, y lo acota el deadline del request.
+public class BatchLoader<T> {
+
+    private final Function<List<Long>, Flux<T>> fetcher;
+    private final Function<T, Long> idOf;
+    private final Duration window;
+
+    private final Map<Long, Sinks.One<Optional<T>>> results = new ConcurrentHashMap<>();
+    private List<Long> pending = new ArrayList<>();
+    private boolean scheduled;
+
+    public BatchLoader(Function<List<Long>, Flux<T>> fetcher, Function<T, Long> idOf, Duration window) {
+        this.fetcher = fetcher;
+        this.idOf = idOf;
+        this.window = window;
+    }
+
+    public Flux<T> load(List<Long> ids) {
+        if (ids == null || ids.isEmpty()) return Flux.empty();
+
+        return Flux.deferContextual(ctx -> {
+            List<Mono<Optional<T>>> slots = new ArrayList<>();
+            synchronized (this) {
+                for (Long id : distinct(ids)) {
+                    slots.add(results.computeIfAbsent(id, key -> {
+                        pending.add(key);
+                        return Sinks.one();
+                    }).asMono());
+                }
+                if (!pending.isEmpty() && !scheduled) {
+                    scheduled = true;
+                    // el fetch agrupado se suscribe con el Context del primer llamador (ver cabecera)
+                    Context dispatchContext = Context.of(ctx);
+                    Schedulers.parallel().schedule(() -> dispatch(dispatchContext),
+                            window.toNanos(), TimeUnit.NANOSECONDS);
+                }
+            }
+            return Flux.fromIterable(slots)
+                    .concatMapDelayError(Function.identity())
+                    .flatMap(Mono::justOrEmpty);
+        });
+    }
+
+    private void dispatch(Context context) {
+        List<Long> batch;
+        synchronized (this) {
+            batch = pending;
+            pending = new ArrayList<>();
+            scheduled = false;
+        }
+        if (batch.isEmpty()) return;
+
+        Set<Long> delivered = ConcurrentHashMap.newKeySet();
+        // defer: si el fetcher lanza en vez de devolver un Flux con error, los slots fallan igual
+        Flux.defer(() -> fetcher.apply(batch)).subscribe(
+                value -> {
+                    Long id = idOf.apply(value);
+                    if (id != null && batch.contains(id) && delivered.add(id)) {
+                        results.get(id).tryEmitValue(Optional.of(value));
+                    }
+                },
+                ex -> batch.stream()
+                        .filter(id -> !delivered.contains(id))
+                        .forEach(id -> results.get(id).tryEmitError(ex)),
+                () -> batch.stream()
+                        .filter(id -> !delivered.contains(id))
+                        .forEach(id -> results.get(id).tryEmitValue(Optional.empty())),
+                context);
+    }
+
+    private static List<Long> distinct(List<Long> ids) {
+        Set<Long> unique = new LinkedHashSet<>();
+        ids.stream().filter(Objects::nonNull).forEach(unique::add);
+        return List.copyOf(unique);
+    }
+}
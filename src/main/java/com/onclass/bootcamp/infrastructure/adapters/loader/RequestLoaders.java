@@ -0,0 +1,34 @@
+package com.onclass.bootcamp.infrastructure.adapters.loader;
+
+import reactor.util.context.Context;
+import reactor.util.context.ContextView;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+// Contenedor de los BatchLoader de un request, guardado en el Context de Reactor.
+// El handler lo instala con contextWrite(RequestLoaders::install); sin él los gateways van directo.
+public final class RequestLoaders {
+
+    private static final Class<RequestLoaders> KEY = RequestLoaders.class;
+
+    private final Map<String, BatchLoader<?>> loaders = new ConcurrentHashMap<>();
+
+    private RequestLoaders() {
+    }
+
+    public static Context install(Context context) {
+        return context.hasKey(KEY) ? context : context.put(KEY, new RequestLoaders());
+    }
+
+    public static Optional<RequestLoaders> from(ContextView context) {
+        return context.getOrEmpty(KEY);
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> BatchLoader<T> loader(String name, Supplier<BatchLoader<T>> factory) {
+        return (BatchLoader<T>) loaders.computeIfAbsent(name, key -> factory.get());
+    }
+}
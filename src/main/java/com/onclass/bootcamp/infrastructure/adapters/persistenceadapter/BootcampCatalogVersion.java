@@ -0,0 +1,22 @@
+package com.onclass.bootcamp.infrastructure.adapters.persistenceadapter;
+
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+// Versión del catálogo de bootcamps en esta instancia: sube con cada alta confirmada por
+// BootcampPersistenceAdapter (después del commit). Base de los ETag de listado y de la caché de páginas.
+// Es un contador en memoria: solo ve las altas hechas por esta instancia.
+@Component
+public class BootcampCatalogVersion {
+
+    private final AtomicLong version = new AtomicLong();
+
+    public long current() {
+        return version.get();
+    }
+
+    void changed() {
+        version.incrementAndGet();
+    }
+}
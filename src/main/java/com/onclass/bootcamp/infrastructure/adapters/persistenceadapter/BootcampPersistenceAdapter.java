@@ -1,23 +1,32 @@
 package com.onclass.bootcamp.infrastructure.adapters.persistenceadapter;
 
+import com.onclass.bootcamp.domain.enums.TechnicalMessage;
+import com.onclass.bootcamp.domain.exceptions.BusinessException;
 import com.onclass.bootcamp.domain.model.Bootcamp;
 import com.onclass.bootcamp.domain.model.Order;
+import com.onclass.bootcamp.domain.model.PageCursor;
 import com.onclass.bootcamp.domain.model.PageRequest;
 import com.onclass.bootcamp.domain.model.SortBy;
 import com.onclass.bootcamp.domain.spi.BootcampPersistencePort;
+import com.onclass.bootcamp.infrastructure.adapters.ListPipelineMetrics;
 import com.onclass.bootcamp.infrastructure.adapters.persistenceadapter.entity.BootcampCapacityEntity;
 import com.onclass.bootcamp.infrastructure.adapters.persistenceadapter.entity.BootcampEntity;
 import com.onclass.bootcamp.infrastructure.adapters.persistenceadapter.mapper.BootcampEntityMapper;
 import com.onclass.bootcamp.infrastructure.adapters.persistenceadapter.repository.BootcampCapacityRepository;
 import com.onclass.bootcamp.infrastructure.adapters.persistenceadapter.repository.BootcampRepository;
+import io.r2dbc.spi.R2dbcDataIntegrityViolationException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.reactive.TransactionalOperator;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 
 @Component
 @RequiredArgsConstructor
@@ -26,28 +35,52 @@ public class BootcampPersistenceAdapter implements BootcampPersistencePort {
     private final BootcampRepository repository;
     private final BootcampCapacityRepository bcRepository;
     private final BootcampEntityMapper mapper;
+    private final TransactionalOperator transactionalOperator;
+    private final ListPipelineMetrics listPipelineMetrics;
+    private final BootcampCatalogVersion catalogVersion;
 
     @Override
     public Mono<Long> countAll() {
-        return repository.countAll();
+        return listPipelineMetrics.observe(ListPipelineMetrics.COUNT_QUERY, repository.countAll());
     }
 
     @Override
     public Flux<Bootcamp> findPage(PageRequest page, SortBy sortBy, Order order) {
         int limit  = page.size();
         int offset = (int) page.offset();
+        return listPipelineMetrics.observe(ListPipelineMetrics.PAGE_QUERY,
+                findPageEntities(offset, limit, sortBy, order).map(mapper::toModel));
+    }
+
+    @Override
+    public Flux<Bootcamp> findPageAfter(PageCursor cursor, int limit, SortBy sortBy, Order order) {
+        if (cursor == null) {
+            return listPipelineMetrics.observe(ListPipelineMetrics.PAGE_QUERY,
+                    findPageEntities(0, limit, sortBy, order).map(mapper::toModel));
+        }
 
         Flux<BootcampEntity> entities;
         if (sortBy == SortBy.CAPACITY_COUNT) {
             entities = (order == Order.ASC)
-                    ? repository.findPageOrderByCapacityCountAsc(offset, limit)
-                    : repository.findPageOrderByCapacityCountDesc(offset, limit);
+                    ? repository.findPageAfterOrderByCapacityCountAsc(cursor.capacityCount(), cursor.name(), cursor.id(), limit)
+                    : repository.findPageAfterOrderByCapacityCountDesc(cursor.capacityCount(), cursor.name(), cursor.id(), limit);
         } else {
             entities = (order == Order.ASC)
-                    ? repository.findPageOrderByNameAsc(offset, limit)
-                    : repository.findPageOrderByNameDesc(offset, limit);
+                    ? repository.findPageAfterOrderByNameAsc(cursor.name(), cursor.id(), limit)
+                    : repository.findPageAfterOrderByNameDesc(cursor.name(), cursor.id(), limit);
         }
-        return entities.map(mapper::toModel);
+        return listPipelineMetrics.observe(ListPipelineMetrics.PAGE_QUERY, entities.map(mapper::toModel));
+    }
+
+    private Flux<BootcampEntity> findPageEntities(int offset, int limit, SortBy sortBy, Order order) {
+        if (sortBy == SortBy.CAPACITY_COUNT) {
+            return (order == Order.ASC)
+                    ? repository.findPageOrderByCapacityCountAsc(offset, limit)
+                    : repository.findPageOrderByCapacityCountDesc(offset, limit);
+        }
+        return (order == Order.ASC)
+                ? repository.findPageOrderByNameAsc(offset, limit)
+                : repository.findPageOrderByNameDesc(offset, limit);
     }
 
     @Override
@@ -57,21 +90,23 @@ public class BootcampPersistenceAdapter implements BootcampPersistencePort {
 
     @Override
     public Mono<Bootcamp> save(Bootcamp bootcamp) {
-        BootcampEntity entity = mapper.toEntity(bootcamp);
+        List<Long> capacityIds = bootcamp.getCapacityIds() == null ? List.of() : bootcamp.getCapacityIds();
+        // capacity_count se escribe con la fila padre, en la misma transacción que los vínculos
+        BootcampEntity entity = mapper.toEntity(bootcamp).toBuilder()
+                .capacityCount(capacityIds.size())
+                .build();
 
         return repository.save(entity)
                 .flatMap(saved -> {
                     Long bootcampId = saved.getId();
-                    List<Long> capacityIds = bootcamp.getCapacityIds() == null ? List.of() : bootcamp.getCapacityIds();
 
-                    Mono<Void> saveLinks = Flux.fromIterable(capacityIds)
-                            .flatMap(cid -> bcRepository.save(
-                                    BootcampCapacityEntity.builder()
-                                            .bootcampId(bootcampId)
-                                            .capacityId(cid)
-                                            .build()
-                            ))
-                            .then();
+                    // todos los vínculos en un único INSERT multi-fila
+                    Mono<Long> saveLinks = bcRepository.insertAll(capacityIds.stream()
+                            .map(cid -> BootcampCapacityEntity.builder()
+                                    .bootcampId(bootcampId)
+                                    .capacityId(cid)
+                                    .build())
+                            .toList());
 
                     return saveLinks.thenReturn(
                             Bootcamp.builder()
@@ -81,55 +116,116 @@ public class BootcampPersistenceAdapter implements BootcampPersistencePort {
                                     .launchDate(saved.getLaunchDate())
                                     .duration(saved.getDuration())
                                     .capacityIds(capacityIds)
+                                    .capacityCount(saved.getCapacityCount())
                                     .build()
                     );
-                });
+                })
+                .as(transactionalOperator::transactional)
+                .doOnSuccess(saved -> catalogVersion.changed())
+                .onErrorMap(BootcampPersistenceAdapter::isDuplicateName,
+                        ex -> new BusinessException(TechnicalMessage.BOOTCAMP_ALREADY_EXISTS));
+    }
+
+    @Override
+    public Flux<String> findExistingNames(Collection<String> names) {
+        if (names == null || names.isEmpty()) return Flux.empty();
+        return repository.findIdAndNameByNameIn(names).map(BootcampEntity::getName);
+    }
+
+    @Override
+    public Flux<Bootcamp> saveAll(List<Bootcamp> bootcamps) {
+        if (bootcamps == null || bootcamps.isEmpty()) return Flux.empty();
+
+        List<BootcampEntity> entities = bootcamps.stream()
+                .map(b -> mapper.toEntity(b).toBuilder()
+                        .id(null)
+                        .capacityCount(capacityIdsOf(b).size())
+                        .build())
+                .toList();
+
+        // INSERT multi-fila de bootcamps (ids generados en el orden de entrada) y un INSERT multi-fila
+        // con todos los vínculos, en la misma transacción
+        return repository.insertAll(entities)
+                .collectList()
+                .flatMapMany(ids -> {
+                    List<Bootcamp> saved = new ArrayList<>(bootcamps.size());
+                    List<BootcampCapacityEntity> links = new ArrayList<>();
+                    for (int i = 0; i < bootcamps.size(); i++) {
+                        Bootcamp b = bootcamps.get(i);
+                        Long id = ids.get(i);
+                        List<Long> capacityIds = capacityIdsOf(b);
+                        capacityIds.forEach(cid -> links.add(BootcampCapacityEntity.builder()
+                                .bootcampId(id)
+                                .capacityId(cid)
+                                .build()));
+                        saved.add(Bootcamp.builder()
+                                .id(id)
+                                .name(b.getName())
+                                .description(b.getDescription())
+                                .launchDate(b.getLaunchDate())
+                                .duration(b.getDuration())
+                                .capacityIds(capacityIds)
+                                .capacityCount(capacityIds.size())
+                                .build());
+                    }
+                    return bcRepository.insertAll(links).thenMany(Flux.fromIterable(saved));
+                })
+                .as(transactionalOperator::transactional)
+                .doOnComplete(catalogVersion::changed)
+                .onErrorMap(BootcampPersistenceAdapter::isDuplicateName,
+                        ex -> new BusinessException(TechnicalMessage.BOOTCAMP_ALREADY_EXISTS));
+    }
+
+    // ER_DUP_ENTRY sobre uq_bootcamps_name (los vínculos duplicados ya se rechazan en el use case)
+    private static boolean isDuplicateName(Throwable ex) {
+        if (ex instanceof DuplicateKeyException) return true;
+        return ex instanceof R2dbcDataIntegrityViolationException violation && violation.getErrorCode() == 1062;
+    }
+
+    private static List<Long> capacityIdsOf(Bootcamp bootcamp) {
+        return bootcamp.getCapacityIds() == null ? List.of() : bootcamp.getCapacityIds();
     }
 
     @Override
     public Flux<Bootcamp> findAll() {
-        return repository.findAll()
-                .flatMap(entity ->
-                        bcRepository.findAllByBootcampId(entity.getId())
-                                .map(BootcampCapacityEntity::getCapacityId)
-                                .collectList()
-                                .map(ids -> Bootcamp.builder()
-                                        .id(entity.getId())
-                                        .name(entity.getName())
-                                        .description(entity.getDescription())
-                                        .launchDate(entity.getLaunchDate())
-                                        .duration(entity.getDuration())
-                                        .capacityIds(ids)
-                                        .build()
-                                )
-                );
+        // Un solo result set ordenado por b.id: las filas de cada bootcamp llegan contiguas
+        // y se pliegan sobre la marcha, sin materializar la tabla completa.
+        return foldRows(repository.findAllWithCapacityIds());
     }
 
     @Override
     public Mono<Bootcamp> findById(Long id) {
-        return repository.findById(id)
-                .flatMap(entity ->
-                        bcRepository.findAllByBootcampId(entity.getId())
-                                .map(BootcampCapacityEntity::getCapacityId)
-                                .collectList()
-                                .map(ids -> Bootcamp.builder()
-                                        .id(entity.getId())
-                                        .name(entity.getName())
-                                        .description(entity.getDescription())
-                                        .launchDate(entity.getLaunchDate())
-                                        .duration(entity.getDuration())
-                                        .capacityIds(ids)
-                                        .build()
-                                )
-                );
+        return foldRows(repository.findByIdWithCapacityIds(id)).next();
+    }
+
+    private static Flux<Bootcamp> foldRows(Flux<BootcampRepository.BootcampWithCapacityRow> rows) {
+        return rows
+                .bufferUntilChanged(BootcampRepository.BootcampWithCapacityRow::id)
+                .map(BootcampPersistenceAdapter::toAggregate);
+    }
+
+    private static Bootcamp toAggregate(List<BootcampRepository.BootcampWithCapacityRow> group) {
+        BootcampRepository.BootcampWithCapacityRow head = group.get(0);
+        List<Long> ids = group.stream()
+                .map(BootcampRepository.BootcampWithCapacityRow::capacityId)
+                .filter(Objects::nonNull)
+                .toList();
+        return Bootcamp.builder()
+                .id(head.id())
+                .name(head.name())
+                .description(head.description())
+                .launchDate(head.launchDate())
+                .duration(head.duration())
+                .capacityIds(ids)
+                .capacityCount(head.capacityCount())
+                .build();
     }
 
     @Override
     public Flux<Long> findCapacityIdsByBootcampId(Long bootcampId) {
         return bcRepository
-                .findCapacityIdsByBootcampIds(List.of(bootcampId))
-                .filter(row -> row.getBootcampId().equals(bootcampId))
-                .map(BootcampCapacityRepository.BootcampCapacityIdRow::getCapacityId);
+                .findAllByBootcampIdOrderByCapacityIdAsc(bootcampId)
+                .map(BootcampCapacityEntity::getCapacityId);
     }
 
     @Override
@@ -13,7 +13,7 @@ import java.time.LocalDate;
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
-@Builder
+@Builder(toBuilder = true)
 @Table("bootcamps")
 public class BootcampEntity {
 
@@ -28,4 +28,8 @@ public class BootcampEntity {
     private LocalDate launchDate;
 
     private Integer duration;
+
+    // Desnormalizado: número de filas en bootcamp_capacities, se escribe junto con los vínculos
+    @Column("capacity_count")
+    private Integer capacityCount;
 }
@@ -13,6 +13,9 @@ public interface BootcampEntityMapper {
     @Mapping(source = "description", target = "description")
     @Mapping(source = "launchDate",  target = "launchDate")
     @Mapping(source = "duration",    target = "duration")
+    @Mapping(source = "capacityCount", target = "capacityCount")
+    // los IDs de capacidades vienen de bootcamp_capacities, no de la fila de bootcamps
+    @Mapping(target = "capacityIds", ignore = true)
     Bootcamp toModel(BootcampEntity entity);
 
     BootcampEntity toEntity(Bootcamp model);
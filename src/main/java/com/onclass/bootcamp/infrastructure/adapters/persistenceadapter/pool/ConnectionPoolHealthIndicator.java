@@ -0,0 +1,74 @@
+package com.onclass.bootcamp.infrastructure.adapters.persistenceadapter.pool;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.PoolMetrics;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.Wrapped;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+
+import java.util.Locale;
+import java.util.Optional;
+
+// Saturación del pool R2DBC: todas las conexiones prestadas y al menos pendingThreshold repositorios esperando una.
+// Es carga, no una falla: el estado queda UP (si no, el balanceador saca la instancia justo en el pico) y la
+// saturación se publica en los detalles y en el gauge r2dbc.pool.saturated (1 / 0) para alertar.
+public class ConnectionPoolHealthIndicator implements HealthIndicator {
+
+    private final ConnectionFactory connectionFactory;
+    private final double utilizationThreshold;
+    private final int pendingThreshold;
+
+    public ConnectionPoolHealthIndicator(ConnectionFactory connectionFactory,
+                                         double utilizationThreshold,
+                                         int pendingThreshold,
+                                         MeterRegistry meterRegistry) {
+        this.connectionFactory = connectionFactory;
+        this.utilizationThreshold = utilizationThreshold;
+        this.pendingThreshold = Math.max(1, pendingThreshold);
+        Gauge.builder("r2dbc.pool.saturated", this, indicator -> indicator.saturated() ? 1 : 0)
+                .description("1 mientras todas las conexiones están prestadas y hay repositorios esperando")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Health health() {
+        Optional<PoolMetrics> metrics = pool(connectionFactory).flatMap(ConnectionPool::getMetrics);
+        if (metrics.isEmpty()) return Health.unknown().withDetail("reason", "pool sin métricas").build();
+
+        PoolMetrics m = metrics.get();
+        int max = m.getMaxAllocatedSize();
+        double utilization = utilization(m);
+
+        return Health.up()
+                .withDetail("acquired", m.acquiredSize())
+                .withDetail("idle", m.idleSize())
+                .withDetail("allocated", m.allocatedSize())
+                .withDetail("pending", m.pendingAcquireSize())
+                .withDetail("max", max)
+                .withDetail("utilization", String.format(Locale.ROOT, "%.2f", utilization))
+                .withDetail("saturated", saturated(m))
+                .build();
+    }
+
+    private boolean saturated() {
+        return pool(connectionFactory).flatMap(ConnectionPool::getMetrics).map(this::saturated).orElse(false);
+    }
+
+    private boolean saturated(PoolMetrics m) {
+        return utilization(m) >= utilizationThreshold && m.pendingAcquireSize() >= pendingThreshold;
+    }
+
+    private static double utilization(PoolMetrics m) {
+        int max = m.getMaxAllocatedSize();
+        return max > 0 ? (double) m.acquiredSize() / max : 0;
+    }
+
+    private static Optional<ConnectionPool> pool(Object candidate) {
+        if (candidate instanceof ConnectionPool pool) return Optional.of(pool);
+        if (candidate instanceof Wrapped<?> wrapped) return pool(wrapped.unwrap());
+        return Optional.empty();
+    }
+}
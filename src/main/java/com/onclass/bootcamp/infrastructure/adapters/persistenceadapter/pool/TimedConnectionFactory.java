@@ -0,0 +1,86 @@
+package com.onclass.bootcamp.infrastructure.adapters.persistenceadapter.pool;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryMetadata;
+import io.r2dbc.spi.R2dbcTimeoutException;
+import io.r2dbc.spi.Wrapped;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+// Mide create() del pool: el tiempo que un repositorio espera una conexión (histograma r2dbc.pool.acquire).
+// Implementa Wrapped para que el binder de Boot siga encontrando el ConnectionPool (gauges r2dbc.pool.*)
+// y Disposable para que el destroy "dispose" del bean siga cerrando el pool.
+public class TimedConnectionFactory implements ConnectionFactory, Wrapped<ConnectionFactory>, Disposable {
+
+    static final String ACQUIRE = "r2dbc.pool.acquire";
+
+    private final ConnectionFactory delegate;
+    private final Timer success;
+    private final Timer timeout;
+    private final Timer error;
+    private final Timer cancelled;
+
+    public TimedConnectionFactory(ConnectionFactory delegate, String name, MeterRegistry registry) {
+        this.delegate = delegate;
+        this.success = timer(name, "success", registry);
+        this.timeout = timer(name, "timeout", registry);
+        this.error = timer(name, "error", registry);
+        this.cancelled = timer(name, "cancelled", registry);
+    }
+
+    @Override
+    public Mono<Connection> create() {
+        return Mono.defer(() -> {
+            long startNanos = System.nanoTime();
+            return Mono.<Connection>from(delegate.create())
+                    .doOnSuccess(c -> record(success, startNanos))
+                    .doOnError(ex -> record(isTimeout(ex) ? timeout : error, startNanos))
+                    .doOnCancel(() -> record(cancelled, startNanos));
+        });
+    }
+
+    @Override
+    public ConnectionFactoryMetadata getMetadata() {
+        return delegate.getMetadata();
+    }
+
+    @Override
+    public ConnectionFactory unwrap() {
+        return delegate;
+    }
+
+    @Override
+    public void dispose() {
+        if (delegate instanceof Disposable disposable) disposable.dispose();
+    }
+
+    @Override
+    public boolean isDisposed() {
+        return delegate instanceof Disposable disposable && disposable.isDisposed();
+    }
+
+    /* ====================== helpers ====================== */
+
+    private static Timer timer(String name, String outcome, MeterRegistry registry) {
+        return Timer.builder(ACQUIRE)
+                .description("Espera hasta obtener una conexión del pool R2DBC")
+                .tag("name", name)
+                .tag("outcome", outcome)
+                .register(registry);
+    }
+
+    private static void record(Timer timer, long startNanos) {
+        timer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    // max-acquire-time del pool termina en R2dbcTimeoutException (o TimeoutException de Reactor)
+    private static boolean isTimeout(Throwable ex) {
+        return ex instanceof R2dbcTimeoutException || ex instanceof TimeoutException;
+    }
+}
@@ -0,0 +1,14 @@
+package com.onclass.bootcamp.infrastructure.adapters.persistenceadapter.repository;
+
+import com.onclass.bootcamp.infrastructure.adapters.persistenceadapter.entity.BootcampEntity;
+import reactor.core.publisher.Flux;
+
+import java.util.Collection;
+
+// Fragmento de BootcampRepository para inserciones multi-fila
+public interface BootcampBatchRepository {
+
+    // INSERT ... VALUES (...),(...) en bloques; devuelve los ids generados, en el orden de entrada.
+    // Cada bloque es un INSERT atómico; para que el lote entero lo sea, llamarlo dentro de una transacción
+    Flux<Long> insertAll(Collection<BootcampEntity> bootcamps);
+}
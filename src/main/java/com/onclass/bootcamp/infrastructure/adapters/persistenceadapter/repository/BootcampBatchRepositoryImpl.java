@@ -0,0 +1,75 @@
+package com.onclass.bootcamp.infrastructure.adapters.persistenceadapter.repository;
+
+import com.onclass.bootcamp.infrastructure.adapters.persistenceadapter.entity.BootcampEntity;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.Statement;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class BootcampBatchRepositoryImpl implements BootcampBatchRepository {
+
+    // 5 bind params por fila: 200 filas por sentencia
+    private static final int ROWS_PER_STATEMENT = 200;
+
+    private final DatabaseClient databaseClient;
+
+    @Override
+    public Flux<Long> insertAll(Collection<BootcampEntity> bootcamps) {
+        if (bootcamps == null || bootcamps.isEmpty()) return Flux.empty();
+
+        // concatMap: un lote de 200 filas detrás de otro, en orden
+        return Flux.fromIterable(bootcamps)
+                .buffer(ROWS_PER_STATEMENT)
+                .concatMap(this::insertChunk);
+    }
+
+    // Un INSERT multi-fila con VALUES es un "simple insert" para InnoDB: recibe de una vez un rango de ids
+    // consecutivos (paso @@auto_increment_increment) en el orden de las filas, y LAST_INSERT_ID() es el
+    // primero. Se cumple con innodb_autoinc_lock_mode 0, 1 y 2 mientras no haya "bulk inserts"
+    // (INSERT ... SELECT, LOAD DATA) concurrentes sobre bootcamps, que esta aplicación no hace.
+    // LAST_INSERT_ID() es por conexión: INSERT y SELECT van sobre la misma (la de la transacción si hay una).
+    private Flux<Long> insertChunk(List<BootcampEntity> chunk) {
+        return databaseClient.inConnectionMany(connection -> Mono.from(insertRows(connection, chunk).execute())
+                .flatMap(result -> Mono.from(result.getRowsUpdated()))
+                .flatMapMany(inserted -> {
+                    if (inserted != chunk.size()) {
+                        return Flux.error(new IllegalStateException(
+                                "Inserted " + inserted + " bootcamps, expected " + chunk.size()));
+                    }
+                    return Mono.from(connection
+                                    .createStatement("SELECT LAST_INSERT_ID() AS first_id, @@auto_increment_increment AS step")
+                                    .execute())
+                            .flatMap(result -> Mono.from(result.map((row, meta) -> new long[]{
+                                    row.get("first_id", Number.class).longValue(),
+                                    row.get("step", Number.class).longValue()})))
+                            .flatMapMany(ids -> Flux.range(0, chunk.size()).map(i -> ids[0] + i * ids[1]));
+                }));
+    }
+
+    private Statement insertRows(Connection connection, List<BootcampEntity> chunk) {
+        StringBuilder sql = new StringBuilder(
+                "INSERT INTO bootcamps (name, description, launch_date, duration, capacity_count) VALUES ");
+        for (int i = 0; i < chunk.size(); i++) {
+            sql.append(i > 0 ? ", (?, ?, ?, ?, ?)" : "(?, ?, ?, ?, ?)");
+        }
+
+        Statement statement = connection.createStatement(sql.toString());
+        int p = 0;
+        for (BootcampEntity b : chunk) {
+            statement.bind(p++, b.getName()).bind(p++, b.getDescription());
+            if (b.getLaunchDate() != null) statement.bind(p++, b.getLaunchDate());
+            else statement.bindNull(p++, LocalDate.class);
+            if (b.getDuration() != null) statement.bind(p++, b.getDuration());
+            else statement.bindNull(p++, Integer.class);
+            statement.bind(p++, b.getCapacityCount());
+        }
+        return statement;
+    }
+}
@@ -0,0 +1,13 @@
+package com.onclass.bootcamp.infrastructure.adapters.persistenceadapter.repository;
+
+import com.onclass.bootcamp.infrastructure.adapters.persistenceadapter.entity.BootcampCapacityEntity;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+
+// Fragmento de BootcampCapacityRepository para inserciones multi-fila
+public interface BootcampCapacityBatchRepository {
+
+    // INSERT ... VALUES (...),(...) en bloques; devuelve el total de filas insertadas
+    Mono<Long> insertAll(Collection<BootcampCapacityEntity> links);
+}
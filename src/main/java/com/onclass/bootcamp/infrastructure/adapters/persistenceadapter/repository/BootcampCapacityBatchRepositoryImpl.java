@@ -0,0 +1,45 @@
+package com.onclass.bootcamp.infrastructure.adapters.persistenceadapter.repository;
+
+import com.onclass.bootcamp.infrastructure.adapters.persistenceadapter.entity.BootcampCapacityEntity;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class BootcampCapacityBatchRepositoryImpl implements BootcampCapacityBatchRepository {
+
+    // Límite de filas por sentencia para acotar el tamaño del paquete y de los bind params
+    private static final int ROWS_PER_STATEMENT = 500;
+
+    private final DatabaseClient databaseClient;
+
+    @Override
+    public Mono<Long> insertAll(Collection<BootcampCapacityEntity> links) {
+        if (links == null || links.isEmpty()) return Mono.just(0L);
+
+        // concatMap: las sentencias comparten la conexión de la transacción en curso
+        return Flux.fromIterable(links)
+                .buffer(ROWS_PER_STATEMENT)
+                .concatMap(this::insertChunk)
+                .reduce(0L, Long::sum);
+    }
+
+    private Mono<Long> insertChunk(List<BootcampCapacityEntity> chunk) {
+        StringBuilder sql = new StringBuilder("INSERT INTO bootcamp_capacities (bootcamp_id, capacity_id) VALUES ");
+        for (int i = 0; i < chunk.size(); i++) {
+            if (i > 0) sql.append(", ");
+            sql.append("(:b").append(i).append(", :c").append(i).append(')');
+        }
+
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(sql.toString());
+        for (int i = 0; i < chunk.size(); i++) {
+            spec = spec.bind("b" + i, chunk.get(i).getBootcampId())
+                    .bind("c" + i, chunk.get(i).getCapacityId());
+        }
+        return spec.fetch().rowsUpdated();
+    }
+}
@@ -7,12 +7,14 @@ import reactor.core.publisher.Flux;
 
 import java.util.Collection;
 
-public interface BootcampCapacityRepository extends ReactiveCrudRepository<BootcampCapacityEntity, Long> {
+public interface BootcampCapacityRepository extends ReactiveCrudRepository<BootcampCapacityEntity, Long>,
+        BootcampCapacityBatchRepository {
 
-    Flux<BootcampCapacityEntity> findAllByBootcampId(Long bootcampId);
+    // Mismo orden que findCapacityIdsByBootcampIds
+    Flux<BootcampCapacityEntity> findAllByBootcampIdOrderByCapacityIdAsc(Long bootcampId);
 
     @Query("""
-      SELECT bc.bootcamp_id AS bootcampId, bc.capacity_id AS capacityId
+      SELECT bc.bootcamp_id, bc.capacity_id
       FROM bootcamp_capacities bc
       WHERE bc.bootcamp_id IN (:bootcampIds)
       ORDER BY bc.capacity_id ASC
@@ -6,15 +6,27 @@ import org.springframework.data.repository.reactive.ReactiveCrudRepository;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
-public interface BootcampRepository extends ReactiveCrudRepository<BootcampEntity, Long> {
+import java.time.LocalDate;
+import java.util.Collection;
+
+public interface BootcampRepository extends ReactiveCrudRepository<BootcampEntity, Long>,
+        BootcampBatchRepository {
 
     Mono<Boolean> existsByName(String name);
 
+    // alta por lotes: nombres ya registrados (según la collation de la columna)
+    @Query("""
+      SELECT b.id, b.name
+      FROM bootcamps b
+      WHERE b.name IN (:names)
+    """)
+    Flux<BootcampEntity> findIdAndNameByNameIn(Collection<String> names);
+
     // nombre ASC
     @Query("""
       SELECT b.id, b.name, b.description, b.launch_date, b.duration
       FROM bootcamps b
-      ORDER BY b.name ASC
+      ORDER BY b.name ASC, b.id ASC
       LIMIT :offset, :limit
     """)
     Flux<BootcampEntity> findPageOrderByNameAsc(int offset, int limit);
@@ -23,34 +35,109 @@ public interface BootcampRepository extends ReactiveCrudRepository<BootcampEntit
     @Query("""
       SELECT b.id, b.name, b.description, b.launch_date, b.duration
       FROM bootcamps b
-      ORDER BY b.name DESC
+      ORDER BY b.name DESC, b.id DESC
       LIMIT :offset, :limit
     """)
     Flux<BootcampEntity> findPageOrderByNameDesc(int offset, int limit);
 
-    // conteo de capacidades ASC, desempate alfabético ASC
+    // conteo de capacidades ASC, desempate alfabético ASC (índice capacity_count, name, id)
     @Query("""
-      SELECT b.id, b.name, b.description, b.launch_date, b.duration
+      SELECT b.id, b.name, b.description, b.launch_date, b.duration, b.capacity_count
       FROM bootcamps b
-      LEFT JOIN bootcamp_capacities bc ON bc.bootcamp_id = b.id
-      GROUP BY b.id, b.name, b.description, b.launch_date, b.duration
-      ORDER BY COUNT(bc.capacity_id) ASC, b.name ASC
+      ORDER BY b.capacity_count ASC, b.name ASC, b.id ASC
       LIMIT :offset, :limit
     """)
     Flux<BootcampEntity> findPageOrderByCapacityCountAsc(int offset, int limit);
 
-    // conteo de capacidades DESC, desempate alfabético ASC
+    // conteo de capacidades DESC, desempate alfabético ASC (índice capacity_count DESC, name, id)
     @Query("""
-      SELECT b.id, b.name, b.description, b.launch_date, b.duration
+      SELECT b.id, b.name, b.description, b.launch_date, b.duration, b.capacity_count
       FROM bootcamps b
-      LEFT JOIN bootcamp_capacities bc ON bc.bootcamp_id = b.id
-      GROUP BY b.id, b.name, b.description, b.launch_date, b.duration
-      ORDER BY COUNT(bc.capacity_id) DESC, b.name ASC
+      ORDER BY b.capacity_count DESC, b.name ASC, b.id ASC
       LIMIT :offset, :limit
     """)
     Flux<BootcampEntity> findPageOrderByCapacityCountDesc(int offset, int limit);
 
+    /* ====== modo keyset: continúa después de la clave del cursor, sin OFFSET ====== */
+    // El primer término (>= / <=) es redundante pero acotable: da un range scan sobre el índice del orden
+
+    // nombre ASC, desempate por id
+    @Query("""
+      SELECT b.id, b.name, b.description, b.launch_date, b.duration
+      FROM bootcamps b
+      WHERE b.name >= :name AND (b.name > :name OR b.id > :id)
+      ORDER BY b.name ASC, b.id ASC
+      LIMIT :limit
+    """)
+    Flux<BootcampEntity> findPageAfterOrderByNameAsc(String name, Long id, int limit);
+
+    // nombre DESC, desempate por id
+    @Query("""
+      SELECT b.id, b.name, b.description, b.launch_date, b.duration
+      FROM bootcamps b
+      WHERE b.name <= :name AND (b.name < :name OR b.id < :id)
+      ORDER BY b.name DESC, b.id DESC
+      LIMIT :limit
+    """)
+    Flux<BootcampEntity> findPageAfterOrderByNameDesc(String name, Long id, int limit);
+
+    // conteo de capacidades ASC, desempate alfabético ASC
+    @Query("""
+      SELECT b.id, b.name, b.description, b.launch_date, b.duration, b.capacity_count
+      FROM bootcamps b
+      WHERE b.capacity_count >= :count
+        AND (b.capacity_count > :count OR b.name > :name OR (b.name = :name AND b.id > :id))
+      ORDER BY b.capacity_count ASC, b.name ASC, b.id ASC
+      LIMIT :limit
+    """)
+    Flux<BootcampEntity> findPageAfterOrderByCapacityCountAsc(int count, String name, Long id, int limit);
+
+    // conteo de capacidades DESC, desempate alfabético ASC
+    @Query("""
+      SELECT b.id, b.name, b.description, b.launch_date, b.duration, b.capacity_count
+      FROM bootcamps b
+      WHERE b.capacity_count <= :count
+        AND (b.capacity_count < :count OR b.name > :name OR (b.name = :name AND b.id > :id))
+      ORDER BY b.capacity_count DESC, b.name ASC, b.id ASC
+      LIMIT :limit
+    """)
+    Flux<BootcampEntity> findPageAfterOrderByCapacityCountDesc(int count, String name, Long id, int limit);
+
+    /* ====== agregados completos: una fila por vínculo, ordenadas por bootcamp ====== */
+
+    // Solo ORDER BY b.id: recorre la PK y une por uq_bootcamp_capacities_bootcamp_capacity sin filesort,
+    // así el export empieza a emitir filas de inmediato (ordenar también por capacity_id ordenaba la tabla entera)
+    @Query("""
+      SELECT b.id, b.name, b.description, b.launch_date, b.duration, b.capacity_count, bc.capacity_id
+      FROM bootcamps b
+      LEFT JOIN bootcamp_capacities bc ON bc.bootcamp_id = b.id
+      ORDER BY b.id ASC
+    """)
+    Flux<BootcampWithCapacityRow> findAllWithCapacityIds();
+
+    @Query("""
+      SELECT b.id, b.name, b.description, b.launch_date, b.duration, b.capacity_count, bc.capacity_id
+      FROM bootcamps b
+      LEFT JOIN bootcamp_capacities bc ON bc.bootcamp_id = b.id
+      WHERE b.id = :id
+      ORDER BY bc.capacity_id ASC
+    """)
+    Flux<BootcampWithCapacityRow> findByIdWithCapacityIds(Long id);
+
     // total
     @Query("SELECT COUNT(*) FROM bootcamps")
     Mono<Long> countAll();
+
+
+    // Record (proyección DTO) y no interfaz: una proyección por interfaz se lee a través de BootcampEntity
+    // y perdería capacity_id. Columnas por estrategia de nombres: launchDate -> launch_date.
+    record BootcampWithCapacityRow(
+            Long id,
+            String name,
+            String description,
+            LocalDate launchDate,
+            Integer duration,
+            Integer capacityCount,
+            Long capacityId // null si el bootcamp no tiene vínculos
+    ) {}
 }
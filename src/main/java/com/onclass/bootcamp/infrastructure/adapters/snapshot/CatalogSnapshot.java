@@ -0,0 +1,118 @@
+package com.onclass.bootcamp.infrastructure.adapters.snapshot;
+
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+// Copia en memoria del catálogo completo de un downstream (capacities o technologies).
+// Se recarga cada interval y a demanda (refresh()); cada recarga reemplaza el mapa entero,
+// así que los lectores nunca ven un estado a medias. Si una recarga falla se sigue sirviendo la anterior.
+@Slf4j
+public class CatalogSnapshot<T> {
+
+    private final String name;
+    private final Supplier<Flux<T>> source;
+    private final Function<T, Long> idOf;
+    private final Duration interval;
+
+    private volatile LongObjectMap<T> items = LongObjectMap.empty();
+    private volatile Instant loadedAt;
+    private volatile String lastError;
+    // sube solo si la recarga trajo contenido distinto (forma parte de los ETag de las respuestas)
+    private final AtomicLong version = new AtomicLong();
+    private volatile int contentHash;
+    private Disposable schedule;
+
+    public record Lookup<T>(List<T> hits, List<Long> misses) {}
+
+    public CatalogSnapshot(String name, Supplier<Flux<T>> source, Function<T, Long> idOf, Duration interval) {
+        this.name = name;
+        this.source = source;
+        this.idOf = idOf;
+        this.interval = interval;
+    }
+
+    public void start() {
+        schedule = Flux.interval(Duration.ZERO, interval)
+                .onBackpressureDrop()
+                .concatMap(tick -> refresh().onErrorResume(ex -> Mono.empty()), 0)
+                .subscribe();
+    }
+
+    public void stop() {
+        if (schedule != null) schedule.dispose();
+    }
+
+    public Mono<Integer> refresh() {
+        return Flux.defer(source)
+                .filter(item -> idOf.apply(item) != null)
+                .collectList()
+                .map(list -> {
+                    LongObjectMap<T> loaded = LongObjectMap.of(list, item -> idOf.apply(item));
+                    int hash = list.hashCode();
+                    if (loadedAt == null || hash != contentHash) {
+                        contentHash = hash;
+                        version.incrementAndGet();
+                    }
+                    items = loaded;
+                    loadedAt = Instant.now();
+                    lastError = null;
+                    log.info("Catalog snapshot '{}' refreshed: {} items", name, loaded.size());
+                    return loaded.size();
+                })
+                .doOnError(ex -> {
+                    lastError = ex.toString();
+                    log.warn("Catalog snapshot '{}' refresh failed, keeping previous copy: {}", name, ex.toString());
+                });
+    }
+
+    public boolean isReady() {
+        return loadedAt != null;
+    }
+
+    public Lookup<T> lookup(List<Long> ids) {
+        LongObjectMap<T> current = items;
+        List<T> hits = new ArrayList<>(ids.size());
+        List<Long> misses = new ArrayList<>();
+        for (Long id : ids) {
+            if (id == null) continue;
+            T item = current.get(id);
+            if (item != null) hits.add(item);
+            else misses.add(id);
+        }
+        return new Lookup<>(hits, misses);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long version() {
+        return version.get();
+    }
+
+    public int size() {
+        return items.size();
+    }
+
+    public Map<String, Object> describe() {
+        Map<String, Object> details = new LinkedHashMap<>();
+        details.put("ready", isReady());
+        details.put("size", items.size());
+        details.put("version", version.get());
+        if (loadedAt != null) details.put("loadedAt", loadedAt.toString());
+        if (lastError != null) details.put("lastError", lastError);
+        return details;
+    }
+}
@@ -0,0 +1,38 @@
+package com.onclass.bootcamp.infrastructure.adapters.snapshot;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// status = estado de los snapshots | refresh = recarga inmediata.
+// Solo por JMX (management.endpoints.jmx.exposure): la app no tiene autenticación y la recarga no debe
+// quedar abierta por HTTP; por HTTP el estado ya sale en el health catalogSnapshot.
+@Endpoint(id = "catalogsnapshot")
+public class CatalogSnapshotEndpoint {
+
+    private final List<CatalogSnapshot<?>> snapshots;
+
+    public CatalogSnapshotEndpoint(List<CatalogSnapshot<?>> snapshots) {
+        this.snapshots = snapshots;
+    }
+
+    @ReadOperation
+    public Map<String, Object> status() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        snapshots.forEach(s -> status.put(s.getName(), s.describe()));
+        return status;
+    }
+
+    @WriteOperation
+    public Mono<Map<String, Object>> refresh() {
+        return Flux.fromIterable(snapshots)
+                .flatMap(s -> s.refresh().onErrorResume(ex -> Mono.empty()))
+                .then(Mono.fromSupplier(this::status));
+    }
+}
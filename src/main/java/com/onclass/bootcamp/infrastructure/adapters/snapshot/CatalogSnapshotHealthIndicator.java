@@ -0,0 +1,26 @@
+package com.onclass.bootcamp.infrastructure.adapters.snapshot;
+
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+
+import java.util.List;
+
+// UNKNOWN hasta la primera carga de todos los snapshots (mientras tanto los lookups van al delegate, así que
+// la instancia puede recibir tráfico); después UP, con lastError si la última recarga falló, porque se sigue
+// sirviendo la copia anterior. El estado de cada snapshot va siempre en los detalles.
+public class CatalogSnapshotHealthIndicator implements HealthIndicator {
+
+    private final List<CatalogSnapshot<?>> snapshots;
+
+    public CatalogSnapshotHealthIndicator(List<CatalogSnapshot<?>> snapshots) {
+        this.snapshots = snapshots;
+    }
+
+    @Override
+    public Health health() {
+        boolean ready = snapshots.stream().allMatch(CatalogSnapshot::isReady);
+        Health.Builder builder = ready ? Health.up() : Health.unknown();
+        snapshots.forEach(s -> builder.withDetail(s.getName(), s.describe()));
+        return builder.build();
+    }
+}
@@ -0,0 +1,59 @@
+package com.onclass.bootcamp.infrastructure.adapters.snapshot;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.ToLongFunction;
+
+// Mapa inmutable long -> V en dos arrays ordenados (búsqueda binaria):
+// sin boxing de claves ni nodos de HashMap, pensado para snapshots de solo lectura.
+public final class LongObjectMap<V> {
+
+    private static final LongObjectMap<?> EMPTY = new LongObjectMap<>(new long[0], new Object[0]);
+
+    private final long[] keys;
+    private final Object[] values;
+
+    private LongObjectMap(long[] keys, Object[] values) {
+        this.keys = keys;
+        this.values = values;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <V> LongObjectMap<V> empty() {
+        return (LongObjectMap<V>) EMPTY;
+    }
+
+    // Si hay claves repetidas gana el último valor
+    public static <V> LongObjectMap<V> of(Collection<V> items, ToLongFunction<V> keyOf) {
+        List<V> sorted = new ArrayList<>(items);
+        sorted.sort(Comparator.comparingLong(keyOf));
+
+        long[] keys = new long[sorted.size()];
+        Object[] values = new Object[sorted.size()];
+        int size = 0;
+        for (V item : sorted) {
+            long key = keyOf.applyAsLong(item);
+            if (size > 0 && keys[size - 1] == key) {
+                values[size - 1] = item;
+            } else {
+                keys[size] = key;
+                values[size] = item;
+                size++;
+            }
+        }
+        return new LongObjectMap<>(Arrays.copyOf(keys, size), Arrays.copyOf(values, size));
+    }
+
+    @SuppressWarnings("unchecked")
+    public V get(long key) {
+        int i = Arrays.binarySearch(keys, key);
+        return i >= 0 ? (V) values[i] : null;
+    }
+
+    public int size() {
+        return keys.length;
+    }
+}
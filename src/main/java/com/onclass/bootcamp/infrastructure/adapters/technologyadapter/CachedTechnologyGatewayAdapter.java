@@ -0,0 +1,32 @@
+package com.onclass.bootcamp.infrastructure.adapters.technologyadapter;
+
+import com.onclass.bootcamp.domain.spi.TechnologyGatewayPort;
+import com.onclass.bootcamp.infrastructure.adapters.cache.ReactiveLookupCache;
+import com.onclass.bootcamp.infrastructure.entrypoints.dto.TechnologyDTO;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+
+// Decorador de TechnologyGatewayPort que sirve las technologies desde una caché local por ID.
+// Solo las lecturas (fetchByIds): la validación de existencia va siempre al delegate, así un ID borrado
+// no sigue pasando durante el ttl ni uno recién creado queda rechazado durante el negative-ttl
+public class CachedTechnologyGatewayAdapter implements TechnologyGatewayPort {
+
+    private final ReactiveLookupCache<TechnologyDTO> cache;
+    private final TechnologyGatewayPort delegate;
+
+    public CachedTechnologyGatewayAdapter(ReactiveLookupCache<TechnologyDTO> cache, TechnologyGatewayPort delegate) {
+        this.cache = cache;
+        this.delegate = delegate;
+    }
+
+    @Override
+    public Flux<Long> findExistingIds(List<Long> ids) {
+        return delegate.findExistingIds(ids);
+    }
+
+    @Override
+    public Flux<TechnologyDTO> fetchByIds(List<Long> ids) {
+        return cache.getAll(ids);
+    }
+}
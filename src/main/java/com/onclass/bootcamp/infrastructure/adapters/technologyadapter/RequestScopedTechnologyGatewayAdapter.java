@@ -0,0 +1,38 @@
+package com.onclass.bootcamp.infrastructure.adapters.technologyadapter;
+
+import com.onclass.bootcamp.domain.spi.TechnologyGatewayPort;
+import com.onclass.bootcamp.infrastructure.adapters.loader.BatchLoader;
+import com.onclass.bootcamp.infrastructure.adapters.loader.RequestLoaders;
+import com.onclass.bootcamp.infrastructure.entrypoints.dto.TechnologyDTO;
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+import java.util.List;
+
+// Decorador de TechnologyGatewayPort que agrupa y deduplica los lookups de un mismo request
+public class RequestScopedTechnologyGatewayAdapter implements TechnologyGatewayPort {
+
+    private static final String LOADER = "technologies";
+
+    private final TechnologyGatewayPort delegate;
+    private final Duration window;
+
+    public RequestScopedTechnologyGatewayAdapter(TechnologyGatewayPort delegate, Duration window) {
+        this.delegate = delegate;
+        this.window = window;
+    }
+
+    @Override
+    public Flux<Long> findExistingIds(List<Long> ids) {
+        return fetchByIds(ids).map(TechnologyDTO::getId);
+    }
+
+    @Override
+    public Flux<TechnologyDTO> fetchByIds(List<Long> ids) {
+        return Flux.deferContextual(ctx -> RequestLoaders.from(ctx)
+                .map(scope -> scope.loader(LOADER,
+                                () -> new BatchLoader<>(delegate::fetchByIds, TechnologyDTO::getId, window))
+                        .load(ids))
+                .orElseGet(() -> delegate.fetchByIds(ids)));
+    }
+}
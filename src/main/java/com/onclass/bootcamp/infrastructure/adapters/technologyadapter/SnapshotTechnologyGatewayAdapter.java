@@ -0,0 +1,38 @@
+package com.onclass.bootcamp.infrastructure.adapters.technologyadapter;
+
+import com.onclass.bootcamp.domain.spi.TechnologyGatewayPort;
+import com.onclass.bootcamp.infrastructure.adapters.snapshot.CatalogSnapshot;
+import com.onclass.bootcamp.infrastructure.entrypoints.dto.TechnologyDTO;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+
+// Decorador de TechnologyGatewayPort que sirve desde el snapshot en memoria;
+// solo los IDs que no están (technologies nuevas desde la última recarga) van al delegate
+public class SnapshotTechnologyGatewayAdapter implements TechnologyGatewayPort {
+
+    private final CatalogSnapshot<TechnologyDTO> snapshot;
+    private final TechnologyGatewayPort delegate;
+
+    public SnapshotTechnologyGatewayAdapter(CatalogSnapshot<TechnologyDTO> snapshot, TechnologyGatewayPort delegate) {
+        this.snapshot = snapshot;
+        this.delegate = delegate;
+    }
+
+    // Validación de existencia: siempre al delegate (un ID borrado no debe pasar hasta la próxima recarga)
+    @Override
+    public Flux<Long> findExistingIds(List<Long> ids) {
+        return delegate.findExistingIds(ids);
+    }
+
+    @Override
+    public Flux<TechnologyDTO> fetchByIds(List<Long> ids) {
+        if (ids == null || ids.isEmpty()) return Flux.empty();
+        if (!snapshot.isReady()) return delegate.fetchByIds(ids);
+
+        CatalogSnapshot.Lookup<TechnologyDTO> lookup = snapshot.lookup(ids);
+        return lookup.misses().isEmpty()
+                ? Flux.fromIterable(lookup.hits())
+                : Flux.fromIterable(lookup.hits()).concatWith(delegate.fetchByIds(lookup.misses()));
+    }
+}
@@ -1,6 +1,13 @@
 package com.onclass.bootcamp.infrastructure.adapters.technologyadapter;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.onclass.bootcamp.domain.enums.TechnicalMessage;
+import com.onclass.bootcamp.domain.exceptions.TechnicalException;
 import com.onclass.bootcamp.domain.spi.TechnologyGatewayPort;
+import com.onclass.bootcamp.infrastructure.adapters.BulkEndpoints;
+import com.onclass.bootcamp.infrastructure.adapters.GatewayResilience;
+import com.onclass.bootcamp.infrastructure.adapters.LogSampling;
 import com.onclass.bootcamp.infrastructure.entrypoints.dto.TechnologyDTO;
 import com.onclass.bootcamp.infrastructure.entrypoints.util.APIResponse;
 import lombok.RequiredArgsConstructor;
@@ -9,6 +16,7 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
@@ -22,16 +30,39 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class TechnologyWebClientAdapter implements TechnologyGatewayPort {
 
-    private final WebClient.Builder builder;
+    // Bean de WebConfig con baseUrl y el pool de conexiones propio del downstream
+    private final WebClient technologyWebClient;
 
-    @Value("${app.technology.base-url}")
-    private String baseUrl;
+    // technologyClient / technologyRetry de application.yml, más limiter, deadline y hedging (app.technology.*)
+    private final GatewayResilience technologyResilience;
 
-    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+    // Cuerpos de listados (bulk y snapshot) con o sin envoltorio APIResponse (ver BulkEndpoints.items)
+    private final ObjectMapper objectMapper;
 
-    private WebClient client() {
-        return builder.baseUrl(baseUrl).build();
-    }
+    // single: GET /technologies/{id} por ID | bulk: GET /technologies?ids=1,2,3 por bloques
+    @Value("${app.technology.fetch-mode:single}")
+    private String fetchMode;
+
+    @Value("${app.technology.chunk-size:50}")
+    private int chunkSize;
+
+    // Tras un "sin endpoint por lotes" se usa el camino por ID durante este tiempo y después se vuelve a probar
+    @Value("${app.technology.bulk-reprobe-after:5m}")
+    private Duration bulkReprobeAfter;
+
+    // Fracción de IDs cuyo detalle se loguea en DEBUG (ver LogSampling)
+    @Value("${app.logging.element-sample-rate:0.01}")
+    private double logSampleRate;
+
+    // Catálogo completo para CatalogSnapshot (app.technology.snapshot.*)
+    @Value("${app.technology.snapshot.path:/technologies}")
+    private String snapshotPath;
+
+    @Value("${app.technology.snapshot.timeout:30s}")
+    private Duration snapshotTimeout;
+
+    // Se apaga si el downstream no expone el endpoint por lotes (ver bulkReprobeAfter)
+    private final BulkEndpoints.Availability bulkAvailability = new BulkEndpoints.Availability();
 
     @Override
     public Flux<Long> findExistingIds(List<Long> ids) {
@@ -39,27 +70,95 @@ public class TechnologyWebClientAdapter implements TechnologyGatewayPort {
 
         return fetchByIds(ids)
                 .map(TechnologyDTO::getId)
-                .distinct()
-                .timeout(TIMEOUT);
+                .distinct();
     }
 
+    // 404 = el ID no existe (sin elemento). Cualquier otro error llega al llamador después de
+    // emitir los IDs que sí se obtuvieron, como TechnicalException(INTERNAL_ERROR_IN_ADAPTERS).
     @Override
     public Flux<TechnologyDTO> fetchByIds(List<Long> ids) {
         if (ids == null || ids.isEmpty()) return Flux.empty();
 
-        WebClient wc = client();
-        int concurrency = 5;
+        WebClient wc = technologyWebClient;
+        List<Long> distinctIds = distinct(ids);
+
+        Flux<TechnologyDTO> result = isBulkMode()
+                ? Flux.fromIterable(distinctIds)
+                        .buffer(Math.max(1, chunkSize))
+                        .flatMapDelayError(chunk -> fetchChunk(wc, chunk), technologyResilience.concurrency(), 1)
+                : fetchOneByOne(wc, distinctIds);
+
+        return result.onErrorMap(ex -> new TechnicalException(ex, TechnicalMessage.INTERNAL_ERROR_IN_ADAPTERS));
+    }
+
+    // Corre en segundo plano (sin deadline de request ni hedging): un solo GET con su propio timeout
+    public Flux<TechnologyDTO> fetchAll() {
+        return technologyWebClient.get()
+                .uri(snapshotPath)
+                .retrieve()
+                .bodyToMono(JsonNode.class)
+                .flatMapMany(body -> BulkEndpoints.items(body, TechnologyDTO.class, objectMapper))
+                .timeout(snapshotTimeout)
+                .onErrorMap(ex -> new TechnicalException(ex, TechnicalMessage.INTERNAL_ERROR_IN_ADAPTERS));
+    }
+
+    /* ====================== helpers ====================== */
+
+    private boolean isBulkMode() {
+        return "bulk".equalsIgnoreCase(fetchMode) && bulkAvailability.isAvailable(bulkReprobeAfter);
+    }
 
+    private Flux<TechnologyDTO> fetchOneByOne(WebClient wc, List<Long> ids) {
         return Flux.fromIterable(ids)
-                .flatMap(id ->
-                                wc.get()
-                                        .uri(uriBuilder -> uriBuilder.path("/technologies/{id}").build(id))
-                                        .retrieve()
-                                        .bodyToMono(TechnologyDTO.class) // 👈 directo al objeto
-                                        .doOnNext(t -> log.info("Fetched technology {} -> {}", id, t))
-                                        .doOnError(ex -> log.error("Error fetching technology {}", id, ex))
-                                        .onErrorResume(ex -> Mono.empty()),
-                        concurrency
-                );
+                .flatMapDelayError(id -> fetchOne(wc, id), technologyResilience.concurrency(), 1);
+    }
+
+    private Mono<TechnologyDTO> fetchOne(WebClient wc, Long id) {
+        Mono<TechnologyDTO> call = wc.get()
+                .uri(uriBuilder -> uriBuilder.path("/technologies/{id}").build(id))
+                .retrieve()
+                .bodyToMono(TechnologyDTO.class) // 👈 directo al objeto
+                .onErrorResume(WebClientResponseException.NotFound.class, ex -> Mono.empty());
+
+        return technologyResilience.decorate(call)
+                .doOnNext(t -> {
+                    if (log.isDebugEnabled() && LogSampling.sample(logSampleRate)) {
+                        log.debug("Fetched technology {} -> {}", id, t);
+                    }
+                })
+                // el error llega al llamador (que lo registra una vez por request); aquí solo muestreado
+                .doOnError(ex -> {
+                    if (log.isDebugEnabled() && LogSampling.sample(logSampleRate)) {
+                        log.debug("Error fetching technology {}", id, ex);
+                    }
+                });
+    }
+
+    private Flux<TechnologyDTO> fetchChunk(WebClient wc, List<Long> chunk) {
+        Set<Long> requested = Set.copyOf(chunk);
+        String csv = chunk.stream().map(String::valueOf).collect(Collectors.joining(","));
+
+        Flux<TechnologyDTO> call = wc.get()
+                .uri(uriBuilder -> uriBuilder.path("/technologies").queryParam("ids", csv).build())
+                .retrieve()
+                .bodyToMono(JsonNode.class)
+                .flatMapMany(body -> BulkEndpoints.items(body, TechnologyDTO.class, objectMapper))
+                .filter(t -> t.getId() != null && requested.contains(t.getId()));
+
+        return technologyResilience.decorate(call)
+                .doOnComplete(() -> log.debug("Fetched {} technologies in bulk", chunk.size()))
+                .onErrorResume(BulkEndpoints::isUnsupported, ex -> {
+                    if (bulkAvailability.disable()) {
+                        log.warn("Technology-service has no bulk endpoint, falling back to per-ID requests for {}",
+                                bulkReprobeAfter, ex);
+                    }
+                    return fetchOneByOne(wc, chunk);
+                })
+                .doOnError(ex -> log.warn("Error fetching {} technologies in bulk: {}", chunk.size(), ex.toString()));
+    }
+
+    private static List<Long> distinct(List<Long> ids) {
+        Set<Long> set = ids.stream().collect(Collectors.toSet());
+        return set.stream().toList();
     }
 }
@@ -5,6 +5,7 @@ import com.onclass.bootcamp.infrastructure.entrypoints.handler.BootcampHandlerIm
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.enums.ParameterIn;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.parameters.RequestBody;
@@ -46,6 +47,28 @@ public class RouterRest {
                     )
             ),
 
+            // ====== CREATE BATCH ======
+            @RouterOperation(
+                    path = "/bootcamps/batch",
+                    produces = {"application/json"},
+                    beanClass = BootcampHandlerImpl.class,
+                    beanMethod = "createBatch",
+                    operation = @Operation(
+                            operationId = "createBootcampsBatch",
+                            summary = "Registrar bootcamps por lotes (array JSON o NDJSON, máx. 1000)",
+                            requestBody = @RequestBody(
+                                    description = "Bootcamps a registrar; cada uno se valida como en el alta individual",
+                                    required = true,
+                                    content = {
+                                            @Content(mediaType = "application/json",
+                                                    array = @ArraySchema(schema = @Schema(implementation = BootcampDTO.class))),
+                                            @Content(mediaType = "application/x-ndjson",
+                                                    schema = @Schema(implementation = BootcampDTO.class))
+                                    }
+                            )
+                    )
+            ),
+
             // ====== LIST (paginado + ordenado) ======
             @RouterOperation(
                     path = "/bootcamps",
@@ -83,11 +106,41 @@ public class RouterRest {
                                                     allowableValues = {"asc", "desc"},
                                                     defaultValue = "asc"
                                             )
+                                    ),
+                                    @Parameter(
+                                            name = "cursor", in = ParameterIn.QUERY,
+                                            description = "Cursor opaco (nextCursor de la respuesta anterior). "
+                                                    + "Si se envía, se ignora page, se pagina por clave y la respuesta "
+                                                    + "no trae page (totales solo con includeTotal=true)",
+                                            schema = @Schema(type = "string")
+                                    ),
+                                    @Parameter(
+                                            name = "includeTotal", in = ParameterIn.QUERY,
+                                            description = "Solo con cursor: false omite totalElements/totalPages (sin COUNT). "
+                                                    + "En modo page los totales siempre se incluyen",
+                                            schema = @Schema(type = "boolean", defaultValue = "true")
+                                    ),
+                                    @Parameter(
+                                            name = "If-None-Match", in = ParameterIn.HEADER,
+                                            description = "ETag de una respuesta anterior; 304 si no hubo cambios",
+                                            schema = @Schema(type = "string")
                                     )
                             }
                     )
             ),
 
+            // ====== STREAM (export completo) ======
+            @RouterOperation(
+                    path = "/bootcamps/stream",
+                    produces = {"application/x-ndjson", "text/event-stream"},
+                    beanClass = BootcampHandlerImpl.class,
+                    beanMethod = "stream",
+                    operation = @Operation(
+                            operationId = "streamBootcamps",
+                            summary = "Exportar todos los bootcamps en streaming (NDJSON o SSE)"
+                    )
+            ),
+
             // ====== GET BY ID ======
             @RouterOperation(
                     path = "/bootcamps/{id}",
@@ -103,6 +156,11 @@ public class RouterRest {
                                             required = true,
                                             description = "Identificador del bootcamp",
                                             schema = @Schema(type = "integer", format = "int64")
+                                    ),
+                                    @Parameter(
+                                            name = "If-None-Match", in = ParameterIn.HEADER,
+                                            description = "ETag de una respuesta anterior; 304 si no hubo cambios",
+                                            schema = @Schema(type = "string")
                                     )
                             }
                     )
@@ -110,7 +168,9 @@ public class RouterRest {
     })
     public RouterFunction<ServerResponse> routerFunction(BootcampHandlerImpl handler) {
         return route(POST("/bootcamps"), handler::create)
+                .andRoute(POST("/bootcamps/batch"), handler::createBatch)
                 .andRoute(GET("/bootcamps"), handler::list)
+                .andRoute(GET("/bootcamps/stream"), handler::stream) // antes de {id}
                 .andRoute(GET("/bootcamps/{id}"), handler::getById);
     }
 }
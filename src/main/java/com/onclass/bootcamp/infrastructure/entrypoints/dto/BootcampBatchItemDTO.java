@@ -0,0 +1,13 @@
+package com.onclass.bootcamp.infrastructure.entrypoints.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.onclass.bootcamp.infrastructure.entrypoints.util.ErrorDTO;
+
+// Resultado por ítem de POST /bootcamps/batch: data si se creó, error si se rechazó
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record BootcampBatchItemDTO(
+        int index,             // posición en el lote recibido
+        String code,           // 201 o el código de la regla que lo rechazó
+        BootcampDTO data,
+        ErrorDTO error
+) {}
@@ -0,0 +1,16 @@
+package com.onclass.bootcamp.infrastructure.entrypoints.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+
+// Paginación por clave (?cursor=...): sin número de página; los totales solo con includeTotal=true
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record CursorPageResponse<T>(
+        List<T> content,
+        int size,
+        Long totalElements,
+        Integer totalPages,
+        String nextCursor,     // null cuando no hay más elementos
+        Boolean partial        // true si faltan datos de capacity/technology-service; si no, se omite
+) {}
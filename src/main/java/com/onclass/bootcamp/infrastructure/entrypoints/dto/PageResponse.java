@@ -1,11 +1,18 @@
 package com.onclass.bootcamp.infrastructure.entrypoints.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 import java.util.List;
 
+// Paginación por offset: page / size / totalElements / totalPages siempre presentes (contrato original);
+// nextCursor y partial son opcionales y solo se serializan si tienen valor
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public record PageResponse<T>(
         List<T> content,
         int page,
         int size,
         long totalElements,
-        int totalPages
+        int totalPages,
+        String nextCursor,     // para seguir por clave desde esta página; null cuando no hay más elementos
+        Boolean partial        // true si faltan datos de capacity/technology-service; si no, se omite
 ) {}
@@ -0,0 +1,93 @@
+package com.onclass.bootcamp.infrastructure.entrypoints.handler;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.onclass.bootcamp.domain.enums.TechnicalMessage;
+import com.onclass.bootcamp.domain.exceptions.TechnicalException;
+import com.onclass.bootcamp.infrastructure.adapters.persistenceadapter.BootcampCatalogVersion;
+import com.onclass.bootcamp.infrastructure.adapters.snapshot.CatalogSnapshot;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+// ETags débiles de GET /bootcamps y GET /bootcamps/{id}.
+// - Listado (current): se calcula sin tocar MySQL ni downstreams, con la versión del catálogo (altas en esta
+//   instancia) + versión de cada snapshot de downstream + la página pedida (page, size, orden, cursor), así
+//   que cada página tiene su propio ETag. No depende del arranque ni del reloj: una revalidación contra
+//   otra instancia o después de un reinicio sigue dando 304 mientras esas versiones coincidan.
+// - Detalle (forContent): hash del cuerpo ya leído; igual en todas las instancias mientras los datos no cambien.
+@Component
+public class BootcampETags {
+
+    private final BootcampCatalogVersion catalogVersion;
+    private final ObjectMapper objectMapper;
+    private final List<CatalogSnapshot<?>> snapshots;
+    private final CacheControl cacheControl;
+
+    public BootcampETags(BootcampCatalogVersion catalogVersion,
+                         ObjectMapper objectMapper,
+                         ObjectProvider<CatalogSnapshot<?>> snapshots,
+                         @Value("${app.http-cache.max-age:10s}") Duration maxAge) {
+        this.catalogVersion = catalogVersion;
+        this.objectMapper = objectMapper;
+        this.snapshots = snapshots.orderedStream().toList();
+        this.cacheControl = CacheControl.maxAge(maxAge).cachePublic().mustRevalidate();
+    }
+
+    // Se calcula antes de leer los datos: si el catálogo cambia a mitad del request la respuesta
+    // queda con la versión anterior y la próxima revalidación devuelve 200
+    // pageKey: parámetros de la página ya normalizados (ver BootcampHandlerImpl.list)
+    public String current(String pageKey) {
+        String page = DigestUtils.md5DigestAsHex(pageKey.getBytes(StandardCharsets.UTF_8)).substring(0, 12);
+        return "W/\"" + contentVersion() + '-' + page + '"';
+    }
+
+    // ETag de un recurso ya leído, derivado de su JSON (como ShallowEtagHeaderFilter)
+    public String forContent(Object body) {
+        try {
+            return "W/\"" + DigestUtils.md5DigestAsHex(objectMapper.writeValueAsBytes(body)) + '"';
+        } catch (JsonProcessingException ex) {
+            throw new TechnicalException(ex, TechnicalMessage.INTERNAL_ERROR);
+        }
+    }
+
+    // Versión del contenido en esta instancia: catálogo (register) + snapshots de downstream
+    public String contentVersion() {
+        StringBuilder version = new StringBuilder().append(catalogVersion.current());
+        snapshots.forEach(snapshot -> version.append('-').append(snapshot.version()));
+        return version.toString();
+    }
+
+    // 304 con ETag y Cache-Control si If-None-Match coincide (comparación débil, acepta "*"); vacío si no.
+    // "*" = "el recurso existe": en un recurso individual solo se llama después de encontrarlo.
+    // No se usa checkNotModified porque escribe el ETag en la respuesta aunque después sea un error.
+    public Mono<ServerResponse> notModified(ServerRequest request, String etag) {
+        boolean match = request.headers().header(HttpHeaders.IF_NONE_MATCH).stream()
+                .flatMap(value -> Arrays.stream(value.split(",")))
+                .map(String::trim)
+                .anyMatch(tag -> tag.equals("*") || opaque(tag).equals(opaque(etag)));
+        return match
+                ? ServerResponse.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(cacheControl).build()
+                : Mono.empty();
+    }
+
+    public CacheControl cacheControl() {
+        return cacheControl;
+    }
+
+    private static String opaque(String tag) {
+        return tag.startsWith("W/") ? tag.substring(2) : tag;
+    }
+}
@@ -1,34 +1,44 @@
 package com.onclass.bootcamp.infrastructure.entrypoints.handler;
 
 import com.onclass.bootcamp.domain.api.BootcampServicePort;
+import com.onclass.bootcamp.domain.constants.Constants;
 import com.onclass.bootcamp.domain.enums.TechnicalMessage;
 import com.onclass.bootcamp.domain.exceptions.BusinessException;
+import com.onclass.bootcamp.domain.model.Bootcamp;
+import com.onclass.bootcamp.domain.model.BootcampBatchResult;
+import com.onclass.bootcamp.domain.model.Page;
+import com.onclass.bootcamp.domain.model.PageCursor;
 import com.onclass.bootcamp.domain.model.PageRequest;
 import com.onclass.bootcamp.domain.model.SortBy;
 import com.onclass.bootcamp.domain.model.Order;
-import com.onclass.bootcamp.domain.model.Bootcamp;
-import com.onclass.bootcamp.domain.spi.CapacityGatewayPort;
-import com.onclass.bootcamp.domain.spi.TechnologyGatewayPort;
-import com.onclass.bootcamp.infrastructure.adapters.persistenceadapter.entity.BootcampCapacityEntity;
-import com.onclass.bootcamp.infrastructure.adapters.persistenceadapter.repository.BootcampCapacityRepository;
+import com.onclass.bootcamp.infrastructure.adapters.ConcurrencyLimiter;
+import com.onclass.bootcamp.infrastructure.adapters.Deadlines;
+import com.onclass.bootcamp.infrastructure.adapters.ListPipelineMetrics;
+import com.onclass.bootcamp.infrastructure.adapters.loader.RequestLoaders;
 import com.onclass.bootcamp.infrastructure.entrypoints.dto.*;
 import com.onclass.bootcamp.infrastructure.entrypoints.mapper.BootcampMapper;
 import com.onclass.bootcamp.infrastructure.entrypoints.util.APIResponse;
+import com.onclass.bootcamp.infrastructure.entrypoints.util.CursorCodec;
 import com.onclass.bootcamp.infrastructure.entrypoints.util.ErrorDTO;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.server.ServerRequest;
 import org.springframework.web.reactive.function.server.ServerResponse;
-import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
 
+import java.time.Duration;
 import java.time.OffsetDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
 
 @Slf4j
 @Component
@@ -36,12 +46,22 @@ import java.util.Map;
 public class BootcampHandlerImpl {
 
     private static final String X_MESSAGE_ID = "X_MESSAGE_ID";
+    private static final String X_PARTIAL_RESULT = "X-Partial-Result";
 
     private final BootcampServicePort service;
     private final BootcampMapper mapper;
-    private final CapacityGatewayPort capacityGatewayPort;
-    private final TechnologyGatewayPort technologyGatewayPort;
-    private final BootcampCapacityRepository bootcampCapacityRepository; // 👈 agregado
+    private final BootcampListEnricher enricher;
+    private final ListPipelineMetrics listPipelineMetrics;
+    private final BootcampETags etags;
+    private final BootcampPageCache pageCache;
+
+    // Deadline para todas las llamadas a downstreams de un request (ver Deadlines)
+    @Value("${app.bootcamp.request-budget:3s}")
+    private Duration requestBudget;
+
+    // POST /bootcamps/batch: request-budget + esto por ítem del lote
+    @Value("${app.bootcamp.batch-budget-per-item:5ms}")
+    private Duration batchBudgetPerItem;
 
 
     // ====================== CREATE ======================
@@ -65,123 +85,246 @@ public class BootcampHandlerImpl {
                             .contentType(MediaType.APPLICATION_JSON)
                             .bodyValue(body);
                 })
-                .onErrorResume(ex -> handleError(ex, messageId));
+                .onErrorResume(ex -> handleError(ex, messageId))
+                .contextWrite(RequestLoaders::install)
+                .contextWrite(ConcurrencyLimiter::install)
+                .contextWrite(Deadlines.within(requestBudget));
+    }
+
+    // ====================== CREATE BATCH ======================
+    // Array JSON o NDJSON (application/x-ndjson); 201 si se crearon todos, 207 con el resultado por ítem si no
+    public Mono<ServerResponse> createBatch(ServerRequest request) {
+        final String messageId = request.headers().firstHeader(X_MESSAGE_ID);
+        log.info("[{}] POST /bootcamps/batch", messageId);
+
+        return request.bodyToFlux(BootcampDTO.class)
+                .map(mapper::dtoToDomain)
+                // un ítem de más basta para rechazar el lote sin leer el resto del cuerpo
+                .take(Constants.BATCH_MAX_SIZE + 1L)
+                .collectList()
+                // el deadline se fija con el lote ya leído y crece con su tamaño (lookup de capacities más grande)
+                .flatMapMany(bootcamps -> service.registerAll(bootcamps)
+                        .contextWrite(Deadlines.within(requestBudget.plus(
+                                batchBudgetPerItem.multipliedBy(bootcamps.size())))))
+                .map(this::toBatchItem)
+                .collectList()
+                .flatMap(items -> {
+                    long created = items.stream().filter(item -> item.error() == null).count();
+                    HttpStatus status = created == items.size() ? HttpStatus.CREATED : HttpStatus.MULTI_STATUS;
+                    log.info("[{}] POST /bootcamps/batch items={} created={}", messageId, items.size(), created);
+                    APIResponse<List<BootcampBatchItemDTO>> body = APIResponse.<List<BootcampBatchItemDTO>>builder()
+                            .code(String.valueOf(status.value()))
+                            .message(status.getReasonPhrase())
+                            .identifier(messageId)
+                            .date(nowIso())
+                            .data(items)
+                            .build();
+                    return ServerResponse.status(status)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .bodyValue(body);
+                })
+                .onErrorResume(ex -> handleError(ex, messageId))
+                .contextWrite(RequestLoaders::install)
+                .contextWrite(ConcurrencyLimiter::install);
     }
 
     // ====================== LIST ======================
     public Mono<ServerResponse> list(ServerRequest request) {
         final String messageId = request.headers().firstHeader(X_MESSAGE_ID);
-        log.info("[{}] GET /bootcamps", messageId);
+        log.debug("[{}] GET /bootcamps", messageId);
 
         int page = parseInt(request.queryParam("page").orElse("0"), 0);
         int size = parseInt(request.queryParam("size").orElse("10"), 10);
+        // modo keyset: el cursor trae su propio orden; sortBy/order explícitos deben coincidir
+        var cursorToken = request.queryParam("cursor").filter(v -> !v.isBlank());
         var sortBy = request.queryParam("sortBy")
                 .map(String::toLowerCase)
-                .map(v -> v.equals("capacitycount") ? SortBy.CAPACITY_COUNT : SortBy.NAME)
-                .orElse(SortBy.NAME);
+                .map(v -> v.equals("capacitycount") ? SortBy.CAPACITY_COUNT : SortBy.NAME);
         var order = request.queryParam("order")
                 .map(String::toLowerCase)
-                .map(v -> v.equals("desc") ? Order.DESC : Order.ASC)
-                .orElse(Order.ASC);
-
-        var pr = new PageRequest(page, size);
-
-        return service.list(pr, sortBy, order)
-                .flatMap(pageDomain -> {
-                    var bootcamps = pageDomain.content();
-                    log.info("[{}] Se obtuvieron {} bootcamps de la DB", messageId, bootcamps.size());
-
-                    return Flux.fromIterable(bootcamps)
-                            .flatMap(bootcamp -> {
-                                log.info("[{}] Procesando bootcamp {} - {}", messageId, bootcamp.getId(), bootcamp.getName());
-
-                                // (1) Obtener capacityIds desde bootcamp_capacities
-                                return bootcampCapacityRepository.findAllByBootcampId(bootcamp.getId())
-                                        .doOnNext(row -> log.info("[{}] Bootcamp {} tiene capacityId={}",
-                                                messageId, bootcamp.getId(), row.getCapacityId()))
-                                        .map(BootcampCapacityEntity::getCapacityId)
-                                        .collectList()
-                                        .flatMap(capIds -> {
-                                            log.info("[{}] Bootcamp {} capacityIds encontrados: {}",
-                                                    messageId, bootcamp.getId(), capIds);
-
-                                            if (capIds.isEmpty()) {
-                                                return Mono.just(mapper.toListItemDTO(bootcamp, List.of()));
-                                            }
-
-                                            // (2) Pedir detalles de esas capacities al capacity-service
-                                            return capacityGatewayPort.fetchByIds(capIds)
-                                                    .collectList()
-                                                    .flatMap(capacities -> {
-                                                        log.info("[{}] Capacity-service devolvió {} capacities para bootcamp {}",
-                                                                messageId, capacities.size(), bootcamp.getId());
-
-                                                        return Flux.fromIterable(capacities)
-                                                                .flatMap(cap ->
-                                                                        technologyGatewayPort.fetchByIds(cap.getTechnologyIds())
-                                                                                .collectList()
-                                                                                .map(techs -> {
-                                                                                    log.info("[{}] Capacity {} tiene {} technologies",
-                                                                                            messageId, cap.getId(), techs.size());
-                                                                                    return new CapacityListItemDTO(
-                                                                                            cap.getId(),
-                                                                                            cap.getName(),
-                                                                                            cap.getDescription(),
-                                                                                            techs.size(),
-                                                                                            techs
-                                                                                    );
-                                                                                })
-                                                                )
-                                                                .collectList()
-                                                                .map(capacityList -> mapper.toListItemDTO(bootcamp, capacityList));
-                                                    });
-                                        });
+                .map(v -> v.equals("desc") ? Order.DESC : Order.ASC);
+        // includeTotal=false omite el COUNT(*) en modo cursor (clientes de scroll infinito); el modo offset
+        // siempre trae page / totalElements / totalPages, como antes del modo cursor
+        boolean includeTotal = cursorToken.isEmpty()
+                || request.queryParam("includeTotal").map(Boolean::parseBoolean).orElse(true);
+        // If-None-Match vigente: 304 sin consultar MySQL ni downstreams
+        final String etag = etags.current("page=" + page + "&size=" + size
+                + "&sortBy=" + sortBy.map(Enum::name).orElse("") + "&order=" + order.map(Enum::name).orElse("")
+                + "&includeTotal=" + includeTotal + "&cursor=" + cursorToken.orElse(""));
+
+        Mono<ServerResponse> response = Mono.defer(() -> {
+                    PageCursor cursor = cursorToken.map(CursorCodec::decode).orElse(null);
+                    SortBy effectiveSortBy = sortBy.orElse(cursor != null ? cursor.sortBy() : SortBy.NAME);
+                    Order effectiveOrder = order.orElse(cursor != null ? cursor.order() : Order.ASC);
+                    // páginas offset ya ensambladas: un hit no toca MySQL ni downstreams
+                    BootcampPageCache.Key key = cursor == null
+                            ? new BootcampPageCache.Key(page, size, effectiveSortBy, effectiveOrder, includeTotal)
+                            : null;
+                    var cached = key != null ? pageCache.get(key) : Optional.<BootcampPageCache.Entry>empty();
+                    if (cached.isPresent()) {
+                        log.debug("[{}] GET /bootcamps page={} size={} served from page cache", messageId, page, size);
+                        BootcampPageCache.Entry entry = cached.get();
+                        return okPage(entry.json() != null ? entry.json() : entry.payload(), false, etag);
+                    }
+                    String version = pageCache.version();
+                    ListPipelineMetrics.RequestStats stats = ListPipelineMetrics.start(effectiveSortBy, effectiveOrder, size);
+
+                    Mono<Page<Bootcamp>> pageMono = cursor == null
+                            ? service.list(new PageRequest(page, size), effectiveSortBy, effectiveOrder, includeTotal)
+                            : service.listAfter(cursor, size, effectiveSortBy, effectiveOrder, includeTotal);
+
+                    AtomicReference<Assembled> done = new AtomicReference<>();
+
+                    return pageMono
+                            .flatMap(pageDomain -> enricher.enrich(pageDomain.content())
+                                    .map(result -> new Assembled(pageDomain, result)))
+                            .doOnNext(done::set)
+                            // una sola línea por request con conteos y tiempos por etapa, también si falla o se cancela
+                            .doFinally(signal -> {
+                                listPipelineMetrics.finish(stats);
+                                logListSummary(messageId, page, size, signal, done.get(), stats);
                             })
-                            .collectList()
-                            .map(content -> new PageResponse<>(
-                                    content,
-                                    pageDomain.page(),
-                                    pageDomain.size(),
-                                    pageDomain.totalElements(),
-                                    pageDomain.totalPages()
-                            ));
+                            .contextWrite(ListPipelineMetrics.bind(stats))
+                            .flatMap(assembled -> {
+                                boolean partial = assembled.result().partial();
+                                if (cursor != null) return okPage(toCursorPage(assembled), partial, etag);
+                                PageResponse<BootcampListItemDTO> payload = toOffsetPage(assembled);
+                                pageCache.put(key, version, payload);
+                                return okPage(payload, partial, etag);
+                            });
                 })
-                .flatMap(payload -> ServerResponse.ok()
-                        .contentType(MediaType.APPLICATION_JSON)
-                        .bodyValue(payload)
-                )
-                .onErrorResume(ex -> {
-                    log.error("[{}] Error en list()", messageId, ex);
-                    return handleError(ex, messageId);
-                });
+                .onErrorResume(ex -> handleError(ex, messageId));
+
+        return etags.notModified(request, etag)
+                .switchIfEmpty(response)
+                // los lookups de capacities / technologies del request se agrupan y deduplican,
+                // y sus llamadas a cada downstream no pasan de app.<servicio>.limiter.per-request
+                .contextWrite(RequestLoaders::install)
+                .contextWrite(ConcurrencyLimiter::install)
+                .contextWrite(Deadlines.within(requestBudget));
     }
 
 
+    // ====================== STREAM ======================
+    // Exporta el catálogo completo directo desde el Flux de persistencia (NDJSON o SSE según Accept);
+    // la demanda del cliente se propaga hasta el cursor de R2DBC, sin colectar en memoria.
+    public Mono<ServerResponse> stream(ServerRequest request) {
+        final String messageId = request.headers().firstHeader(X_MESSAGE_ID);
+        log.info("[{}] GET /bootcamps/stream", messageId);
+
+        MediaType mediaType = request.headers().accept().stream()
+                .anyMatch(MediaType.TEXT_EVENT_STREAM::equalsTypeAndSubtype)
+                ? MediaType.TEXT_EVENT_STREAM
+                : MediaType.APPLICATION_NDJSON;
+
+        var body = service.list()
+                .map(mapper::toDto)
+                .doOnError(ex -> log.error("[{}] Error en stream()", messageId, ex));
+
+        return ServerResponse.ok()
+                .contentType(mediaType)
+                .body(body, BootcampDTO.class);
+    }
+
     // ====================== GET BY ID ======================
+    // El id se valida antes que If-None-Match, y el 304 (también con "*") solo se decide con el bootcamp
+    // ya encontrado: un id inexistente es 404 aunque el cliente mande un ETag
     public Mono<ServerResponse> getById(ServerRequest request) {
         final String messageId = request.headers().firstHeader(X_MESSAGE_ID);
-        final Long id = Long.valueOf(request.pathVariable("id"));
-        log.info("[{}] GET /bootcamps/{}", messageId, id);
+        final Long id = parseId(request.pathVariable("id"));
+        log.info("[{}] GET /bootcamps/{}", messageId, request.pathVariable("id"));
+        if (id == null) return handleError(new BusinessException(TechnicalMessage.INVALID_PARAMETERS), messageId);
 
         return service.findById(id)
                 .map(mapper::toDto)
                 .flatMap(dto -> {
-                    APIResponse<BootcampDTO> body = APIResponse.<BootcampDTO>builder()
-                            .code(String.valueOf(HttpStatus.OK.value()))
-                            .message("OK")
-                            .identifier(messageId)
-                            .date(nowIso())
-                            .data(dto)
-                            .build();
-                    return ServerResponse.ok()
-                            .contentType(MediaType.APPLICATION_JSON)
-                            .bodyValue(body);
+                    String etag = etags.forContent(dto);
+                    return etags.notModified(request, etag).switchIfEmpty(Mono.defer(() -> {
+                        APIResponse<BootcampDTO> body = APIResponse.<BootcampDTO>builder()
+                                .code(String.valueOf(HttpStatus.OK.value()))
+                                .message("OK")
+                                .identifier(messageId)
+                                .date(nowIso())
+                                .data(dto)
+                                .build();
+                        return ServerResponse.ok()
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .eTag(etag)
+                                .cacheControl(etags.cacheControl())
+                                .bodyValue(body);
+                    }));
                 })
                 .switchIfEmpty(notFound(messageId, "Bootcamp not found", "id"))
                 .onErrorResume(ex -> handleError(ex, messageId));
     }
 
     /* ====================== helpers ====================== */
+    private BootcampBatchItemDTO toBatchItem(BootcampBatchResult result) {
+        if (result.isCreated()) {
+            return new BootcampBatchItemDTO(result.index(), String.valueOf(HttpStatus.CREATED.value()),
+                    mapper.toDto(result.bootcamp()), null);
+        }
+        TechnicalMessage tm = result.error();
+        return new BootcampBatchItemDTO(result.index(), tm.getCode(), null, ErrorDTO.builder()
+                .code(tm.getCode())
+                .message(tm.getMessage())
+                .param(tm.getParam())
+                .build());
+    }
+
+    private static void logListSummary(String messageId, int page, int size, SignalType signal,
+                                       Assembled assembled, ListPipelineMetrics.RequestStats stats) {
+        if (!log.isInfoEnabled()) return;
+        if (assembled == null) {
+            String outcome = signal == SignalType.CANCEL ? "cancelled" : "error";
+            log.info("[{}] GET /bootcamps page={} size={} outcome={} {}",
+                    messageId, page, size, outcome, stats.summary());
+            return;
+        }
+        Page<Bootcamp> p = assembled.page();
+        log.info("[{}] GET /bootcamps page={} size={} items={} total={} partial={} {}",
+                messageId, p.page(), p.size(), assembled.result().content().size(),
+                p.totalElements(), assembled.result().partial(), stats.summary());
+    }
+
+    // Página ya enriquecida, antes de elegir la forma de la respuesta (offset o cursor)
+    private record Assembled(Page<Bootcamp> page, BootcampListEnricher.Result result) {}
+
+    private static PageResponse<BootcampListItemDTO> toOffsetPage(Assembled assembled) {
+        Page<Bootcamp> page = assembled.page();
+        return new PageResponse<>(
+                assembled.result().content(),
+                page.page(),
+                page.size(),
+                page.totalElements(),
+                page.totalPages(),
+                CursorCodec.encode(page.nextCursor()),
+                assembled.result().partial() ? Boolean.TRUE : null);
+    }
+
+    private static CursorPageResponse<BootcampListItemDTO> toCursorPage(Assembled assembled) {
+        Page<Bootcamp> page = assembled.page();
+        return new CursorPageResponse<>(
+                assembled.result().content(),
+                page.size(),
+                page.totalElements(),
+                page.totalPages(),
+                CursorCodec.encode(page.nextCursor()),
+                assembled.result().partial() ? Boolean.TRUE : null);
+    }
+
+    // body = PageResponse o su JSON ya serializado (byte[]) desde la caché de páginas
+    private Mono<ServerResponse> okPage(Object body, boolean partial, String etag) {
+        var ok = ServerResponse.ok().contentType(MediaType.APPLICATION_JSON);
+        // una página parcial no se cachea ni se puede revalidar
+        if (partial) {
+            ok.header(X_PARTIAL_RESULT, "true").cacheControl(CacheControl.noStore());
+        } else {
+            ok.eTag(etag).cacheControl(etags.cacheControl());
+        }
+        return ok.bodyValue(body);
+    }
+
     private static String nowIso() {
         return OffsetDateTime.now().format(DateTimeFormatter.ISO_OFFSET_DATE_TIME);
     }
@@ -190,6 +333,16 @@ public class BootcampHandlerImpl {
         try { return Integer.parseInt(v); } catch (Exception e) { return def; }
     }
 
+    // null si no es un id válido (numérico y positivo)
+    private static Long parseId(String v) {
+        try {
+            long id = Long.parseLong(v);
+            return id > 0 ? id : null;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
     private Mono<ServerResponse> handleError(Throwable ex, String messageId) {
         if (ex instanceof BusinessException be) {
             TechnicalMessage tm = be.getTechnicalMessage();
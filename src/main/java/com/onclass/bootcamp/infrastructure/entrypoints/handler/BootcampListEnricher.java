@@ -0,0 +1,136 @@
+package com.onclass.bootcamp.infrastructure.entrypoints.handler;
+
+import com.onclass.bootcamp.domain.model.Bootcamp;
+import com.onclass.bootcamp.domain.spi.BootcampPersistencePort;
+import com.onclass.bootcamp.domain.spi.CapacityGatewayPort;
+import com.onclass.bootcamp.domain.spi.TechnologyGatewayPort;
+import com.onclass.bootcamp.infrastructure.adapters.ListPipelineMetrics;
+import com.onclass.bootcamp.infrastructure.entrypoints.dto.BootcampListItemDTO;
+import com.onclass.bootcamp.infrastructure.entrypoints.dto.CapacityDTO;
+import com.onclass.bootcamp.infrastructure.entrypoints.dto.CapacityListItemDTO;
+import com.onclass.bootcamp.infrastructure.entrypoints.dto.TechnologyDTO;
+import com.onclass.bootcamp.infrastructure.entrypoints.mapper.BootcampMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// Enriquecimiento por lotes de una página: una consulta de vínculos para toda la página,
+// cada capacity / technology distinta se pide una sola vez y el ensamblado es en memoria.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BootcampListEnricher {
+
+    private final BootcampPersistencePort bootcampPersistencePort;
+    private final CapacityGatewayPort capacityGatewayPort;
+    private final TechnologyGatewayPort technologyGatewayPort;
+    private final BootcampMapper mapper;
+    private final ListPipelineMetrics listPipelineMetrics;
+
+    // partial = true si algún downstream falló y faltan capacities o technologies en el contenido
+    public record Result(List<BootcampListItemDTO> content, boolean partial) {}
+
+    public Mono<Result> enrich(List<Bootcamp> bootcamps) {
+        if (bootcamps == null || bootcamps.isEmpty()) return Mono.just(new Result(List.of(), false));
+
+        List<Long> bootcampIds = bootcamps.stream().map(Bootcamp::getId).toList();
+        AtomicBoolean partial = new AtomicBoolean(false);
+
+        // (1) Vínculos de toda la página en un solo round trip
+        return listPipelineMetrics.observe(ListPipelineMetrics.LINKS,
+                        bootcampPersistencePort.findCapacityIdsByBootcampIds(bootcampIds)
+                                .collect(LinkedHashMap<Long, List<Long>>::new,
+                                        (acc, e) -> acc.computeIfAbsent(e.getKey(), k -> new ArrayList<>()).add(e.getValue())))
+                .flatMap(links -> fetchCapacities(distinct(links.values()), partial)
+                        // (2) Capacities y (3) technologies distintas, una vez cada una
+                        .flatMap(capacities -> fetchTechnologies(capacities.values(), partial)
+                                .map(technologies -> new Result(
+                                        assemble(bootcamps, links, capacities, technologies),
+                                        partial.get()))));
+    }
+
+    /* ====================== helpers ====================== */
+
+    // Un fallo del downstream no tumba la página: se conservan los elementos ya recibidos.
+    // distinct.ids se registra también con 0 IDs (páginas sin vínculos)
+    private Mono<Map<Long, CapacityDTO>> fetchCapacities(List<Long> capacityIds, AtomicBoolean partial) {
+        return Mono.deferContextual(ctx -> {
+            ListPipelineMetrics.recordDistinctIds(ctx, "capacity", capacityIds.size());
+            if (capacityIds.isEmpty()) return Mono.just(Map.<Long, CapacityDTO>of());
+            return listPipelineMetrics.observe(ListPipelineMetrics.CAPACITY_FANOUT, capacityGatewayPort.fetchByIds(capacityIds))
+                    .onErrorResume(ex -> degraded("capacity-service", ex, partial))
+                    .filter(c -> c.getId() != null)
+                    .collectMap(CapacityDTO::getId, c -> c, LinkedHashMap::new);
+        });
+    }
+
+    private Mono<Map<Long, TechnologyDTO>> fetchTechnologies(Collection<CapacityDTO> capacities, AtomicBoolean partial) {
+        List<Long> technologyIds = distinct(capacities.stream()
+                .map(CapacityDTO::getTechnologyIds)
+                .filter(Objects::nonNull)
+                .toList());
+        return Mono.deferContextual(ctx -> {
+            ListPipelineMetrics.recordDistinctIds(ctx, "technology", technologyIds.size());
+            if (technologyIds.isEmpty()) return Mono.just(Map.<Long, TechnologyDTO>of());
+            return listPipelineMetrics.observe(ListPipelineMetrics.TECHNOLOGY_FANOUT, technologyGatewayPort.fetchByIds(technologyIds))
+                    .onErrorResume(ex -> degraded("technology-service", ex, partial))
+                    .filter(t -> t.getId() != null)
+                    .collectMap(TechnologyDTO::getId, t -> t, LinkedHashMap::new);
+        });
+    }
+
+    private static <T> Flux<T> degraded(String downstream, Throwable ex, AtomicBoolean partial) {
+        log.warn("{} unavailable, returning partial list: {}", downstream, ex.toString());
+        partial.set(true);
+        return Flux.empty();
+    }
+
+    private List<BootcampListItemDTO> assemble(List<Bootcamp> bootcamps,
+                                               Map<Long, List<Long>> links,
+                                               Map<Long, CapacityDTO> capacities,
+                                               Map<Long, TechnologyDTO> technologies) {
+        // Cada capacity se arma una vez y se comparte entre los bootcamps que la referencian
+        Map<Long, CapacityListItemDTO> capacityItems = new LinkedHashMap<>();
+        capacities.values().forEach(cap -> capacityItems.put(cap.getId(), toCapacityItem(cap, technologies)));
+
+        List<BootcampListItemDTO> content = new ArrayList<>(bootcamps.size());
+        for (Bootcamp bootcamp : bootcamps) {
+            List<CapacityListItemDTO> items = links.getOrDefault(bootcamp.getId(), List.of()).stream()
+                    .map(capacityItems::get)
+                    .filter(Objects::nonNull)
+                    .toList();
+            content.add(mapper.toListItemDTO(bootcamp, items));
+        }
+        return content;
+    }
+
+    private static CapacityListItemDTO toCapacityItem(CapacityDTO cap, Map<Long, TechnologyDTO> technologies) {
+        List<TechnologyDTO> techs = cap.getTechnologyIds() == null
+                ? List.of()
+                : cap.getTechnologyIds().stream()
+                        .distinct()
+                        .map(technologies::get)
+                        .filter(Objects::nonNull)
+                        .toList();
+        return new CapacityListItemDTO(cap.getId(), cap.getName(), cap.getDescription(), techs.size(), techs);
+    }
+
+    private static List<Long> distinct(Collection<List<Long>> groups) {
+        Set<Long> ids = new LinkedHashSet<>();
+        groups.forEach(ids::addAll);
+        ids.remove(null);
+        return List.copyOf(ids);
+    }
+}
@@ -0,0 +1,91 @@
+package com.onclass.bootcamp.infrastructure.entrypoints.handler;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.onclass.bootcamp.domain.model.Order;
+import com.onclass.bootcamp.domain.model.SortBy;
+import com.onclass.bootcamp.infrastructure.entrypoints.dto.BootcampListItemDTO;
+import com.onclass.bootcamp.infrastructure.entrypoints.dto.PageResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+// Caché de páginas ya ensambladas de GET /bootcamps (modo offset), por (page, size, sortBy, order, includeTotal).
+// Cada entrada guarda la versión del contenido con la que se armó (ver BootcampETags.contentVersion):
+// un register o un cambio de snapshot la invalida, y el TTL acota lo que tardan en verse los cambios
+// de capacity / technology servidos sin snapshot. Las páginas parciales no se guardan.
+// Con serialized=true se guarda también el JSON ya serializado y el hit no vuelve a pasar por Jackson.
+@Slf4j
+@Component
+public class BootcampPageCache {
+
+    public record Key(int page, int size, SortBy sortBy, Order order, boolean includeTotal) {}
+
+    // json == null si no se guardan los bytes
+    public record Entry(String version, PageResponse<BootcampListItemDTO> payload, byte[] json) {}
+
+    private final boolean enabled;
+    private final boolean serialized;
+    private final Cache<Key, Entry> cache;
+    private final ObjectMapper objectMapper;
+    private final BootcampETags etags;
+    private final AtomicReference<String> lastVersion = new AtomicReference<>();
+
+    public BootcampPageCache(@Value("${app.bootcamp.page-cache.enabled:true}") boolean enabled,
+                             @Value("${app.bootcamp.page-cache.ttl:30s}") Duration ttl,
+                             @Value("${app.bootcamp.page-cache.max-size:500}") long maxSize,
+                             @Value("${app.bootcamp.page-cache.serialized:true}") boolean serialized,
+                             ObjectMapper objectMapper,
+                             BootcampETags etags,
+                             MeterRegistry registry) {
+        this.enabled = enabled;
+        this.serialized = serialized;
+        this.objectMapper = objectMapper;
+        this.etags = etags;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(registry, cache, "bootcamp-pages");
+    }
+
+    // Versión a capturar antes de armar la página: si cambia mientras tanto, put la descarta
+    public String version() {
+        String version = etags.contentVersion();
+        String previous = lastVersion.getAndSet(version);
+        // la primera lectura con una versión nueva libera todas las entradas viejas
+        if (previous != null && !previous.equals(version)) cache.invalidateAll();
+        return version;
+    }
+
+    public Optional<Entry> get(Key key) {
+        if (!enabled) return Optional.empty();
+        String version = version();
+        Entry entry = cache.getIfPresent(key);
+        return entry != null && entry.version().equals(version) ? Optional.of(entry) : Optional.empty();
+    }
+
+    public void put(Key key, String version, PageResponse<BootcampListItemDTO> payload) {
+        if (!enabled || payload.partial() != null || !version.equals(etags.contentVersion())) return;
+        cache.put(key, new Entry(version, payload, serialized ? toJson(payload) : null));
+    }
+
+    private byte[] toJson(PageResponse<BootcampListItemDTO> payload) {
+        try {
+            return objectMapper.writeValueAsBytes(payload);
+        } catch (JsonProcessingException e) {
+            // sin bytes el hit se serializa como cualquier respuesta
+            log.warn("Could not pre-serialize bootcamp page: {}", e.toString());
+            return null;
+        }
+    }
+}
@@ -14,6 +14,7 @@ public interface BootcampMapper {
 
     // DTO → Dominio
     @Mapping(target = "id", ignore = true) // se ignora en creación
+    @Mapping(target = "capacityCount", ignore = true)
     @Mapping(source = "name",        target = "name")
     @Mapping(source = "description", target = "description")
     @Mapping(source = "launchDate",  target = "launchDate")
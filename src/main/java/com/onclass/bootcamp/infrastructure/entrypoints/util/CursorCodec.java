@@ -0,0 +1,53 @@
+package com.onclass.bootcamp.infrastructure.entrypoints.util;
+
+import com.onclass.bootcamp.domain.enums.TechnicalMessage;
+import com.onclass.bootcamp.domain.exceptions.BusinessException;
+import com.onclass.bootcamp.domain.model.Order;
+import com.onclass.bootcamp.domain.model.PageCursor;
+import com.onclass.bootcamp.domain.model.SortBy;
+import lombok.experimental.UtilityClass;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+// Token opaco del modo keyset: base64url("v1|sortBy|order|capacityCount|id|name").
+// El nombre va al final para que pueda contener el separador.
+@UtilityClass
+public class CursorCodec {
+
+    private static final String VERSION = "v1";
+    private static final String SEPARATOR = "|";
+
+    public static String encode(PageCursor cursor) {
+        if (cursor == null) return null;
+        String raw = String.join(SEPARATOR,
+                VERSION,
+                cursor.sortBy().name(),
+                cursor.order().name(),
+                cursor.capacityCount() == null ? "" : String.valueOf(cursor.capacityCount()),
+                String.valueOf(cursor.id()),
+                cursor.name());
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // Cualquier token que no haya salido de encode (truncado, editado, otra versión) es INVALID_CURSOR (400)
+    public static PageCursor decode(String token) {
+        if (token == null) throw new BusinessException(TechnicalMessage.INVALID_CURSOR);
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", 6);
+            if (parts.length != 6 || !VERSION.equals(parts[0])) {
+                throw new IllegalArgumentException("unsupported cursor");
+            }
+            SortBy sortBy = SortBy.valueOf(parts[1]);
+            Integer capacityCount = parts[3].isEmpty() ? null : Integer.valueOf(parts[3]);
+            long id = Long.parseLong(parts[4]);
+            if (id <= 0 || (capacityCount != null && capacityCount < 0)) {
+                throw new IllegalArgumentException("inconsistent cursor");
+            }
+            return new PageCursor(sortBy, Order.valueOf(parts[2]), capacityCount, parts[5], id);
+        } catch (IllegalArgumentException ex) {
+            throw new BusinessException(TechnicalMessage.INVALID_CURSOR);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+-- Esquema base de bootcamp-service (MySQL 8), tal como existía antes de las migraciones.
+-- En una base ya creada a mano, spring.flyway.baseline-on-migrate la registra como aplicada sin ejecutarla.
+
+CREATE TABLE IF NOT EXISTS bootcamps (
+    id          BIGINT       NOT NULL AUTO_INCREMENT,
+    name        VARCHAR(50)  NOT NULL,
+    description VARCHAR(255) NOT NULL,
+    launch_date DATE         NULL,
+    duration    INT          NULL,
+    PRIMARY KEY (id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE IF NOT EXISTS bootcamp_capacities (
+    id          BIGINT NOT NULL AUTO_INCREMENT,
+    bootcamp_id BIGINT NOT NULL,
+    capacity_id BIGINT NOT NULL,
+    PRIMARY KEY (id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
@@ -0,0 +1,19 @@
+-- Conteo de capacidades desnormalizado en bootcamps (antes db/scripts/001, aplicado a mano).
+-- Lo mantiene BootcampPersistenceAdapter.save / saveAll en la misma transacción que los vínculos.
+-- Si ese script ya se había ejecutado, migrar con FLYWAY_BASELINE_VERSION=2.
+
+ALTER TABLE bootcamps
+    ADD COLUMN capacity_count INT NOT NULL DEFAULT 0;
+
+-- Backfill desde bootcamp_capacities
+UPDATE bootcamps b
+    LEFT JOIN (
+        SELECT bc.bootcamp_id, COUNT(*) AS total
+        FROM bootcamp_capacities bc
+        GROUP BY bc.bootcamp_id
+    ) c ON c.bootcamp_id = b.id
+SET b.capacity_count = COALESCE(c.total, 0);
+
+-- Orden por conteo ASC / DESC con desempate (name ASC, id ASC) leído directamente del índice
+CREATE INDEX idx_bootcamps_capacity_count_asc  ON bootcamps (capacity_count ASC,  name ASC, id ASC);
+CREATE INDEX idx_bootcamps_capacity_count_desc ON bootcamps (capacity_count DESC, name ASC, id ASC);
@@ -0,0 +1,14 @@
+-- Índices para las consultas de BootcampRepository / BootcampCapacityRepository
+-- (BootcampQueryPlanTest comprueba con EXPLAIN que cada consulta los usa).
+
+-- Unicidad del nombre: existsByName, findIdAndNameByNameIn y el duplicado de register / saveAll.
+-- Falla si ya hay nombres repetidos: SELECT name, COUNT(*) FROM bootcamps GROUP BY name HAVING COUNT(*) > 1
+CREATE UNIQUE INDEX uq_bootcamps_name ON bootcamps (name);
+
+-- Páginas y keyset por nombre (ASC y DESC): cubre todas las columnas que leen, sin filesort ni lookup por PK
+CREATE INDEX idx_bootcamps_name_cover ON bootcamps (name, id, description, launch_date, duration);
+
+-- Un vínculo por par; cubre findCapacityIdsByBootcampIds y el join de los agregados por bootcamp_id.
+-- Falla si hay pares repetidos: SELECT bootcamp_id, capacity_id FROM bootcamp_capacities
+--                               GROUP BY bootcamp_id, capacity_id HAVING COUNT(*) > 1
+CREATE UNIQUE INDEX uq_bootcamp_capacities_bootcamp_capacity ON bootcamp_capacities (bootcamp_id, capacity_id);
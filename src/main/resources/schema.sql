@@ -1,8 +0,0 @@
-CREATE TABLE IF NOT EXISTS users (
-    id BIGSERIAL PRIMARY KEY,
-    name VARCHAR(255),
-    email VARCHAR(255)
-);
-
-
-
@@ -2,18 +2,20 @@ package com.onclass.bootcamp.domain.usecase;
 
 import com.onclass.bootcamp.domain.enums.TechnicalMessage;
 import com.onclass.bootcamp.domain.exceptions.BusinessException;
-import com.onclass.bootcamp.domain.model.Capacity;
+import com.onclass.bootcamp.domain.model.Bootcamp;
 import com.onclass.bootcamp.domain.model.Order;
 import com.onclass.bootcamp.domain.model.PageRequest;
 import com.onclass.bootcamp.domain.model.SortBy;
-import com.onclass.bootcamp.domain.spi.CapacityPersistencePort;
-import com.onclass.bootcamp.domain.spi.TechnologyGatewayPort;
+import com.onclass.bootcamp.domain.spi.BootcampPersistencePort;
+import com.onclass.bootcamp.domain.spi.CapacityGatewayPort;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
+import java.time.Duration;
+import java.time.LocalDate;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -23,89 +25,133 @@ import static org.mockito.Mockito.*;
 
 class BootcampUseCaseTest {
 
-    private CapacityPersistencePort persistence;
-    private TechnologyGatewayPort technologyGatewayPort;
+    private BootcampPersistencePort persistence;
+    private CapacityGatewayPort capacityGatewayPort;
     private BootcampUseCase useCase;
 
     @BeforeEach
     void setup() {
-        persistence = mock(CapacityPersistencePort.class);
-        technologyGatewayPort = mock(TechnologyGatewayPort.class);
-        useCase = new BootcampUseCase(persistence, technologyGatewayPort);
+        persistence = mock(BootcampPersistencePort.class);
+        capacityGatewayPort = mock(CapacityGatewayPort.class);
+        useCase = new BootcampUseCase(persistence, capacityGatewayPort);
     }
 
-    private Capacity sampleCapacity() {
-        return new Capacity(
-                1L,
-                "Backend Developer",
-                "Focuses on backend technologies",
-                List.of(1L, 2L, 3L)
-        );
+    private Bootcamp sampleBootcamp() {
+        return Bootcamp.builder()
+                .id(1L)
+                .name("Java Backend")
+                .description("Backend bootcamp with Spring")
+                .launchDate(LocalDate.of(2026, 1, 15))
+                .duration(12)
+                .capacityIds(List.of(1L, 2L))
+                .build();
     }
 
     @Test
     void register_ok() {
-        Capacity c = sampleCapacity();
+        Bootcamp b = sampleBootcamp();
 
-        when(technologyGatewayPort.findExistingIds(anyList()))
-                .thenReturn(Flux.fromIterable(c.getTechnologyIds()));
+        when(capacityGatewayPort.findExistingIds(anyList()))
+                .thenReturn(Flux.fromIterable(b.getCapacityIds()));
         when(persistence.existsByName(anyString()))
                 .thenReturn(Mono.just(false));
-        when(persistence.save(any(Capacity.class)))
-                .thenReturn(Mono.just(c));
+        when(persistence.save(any(Bootcamp.class)))
+                .thenReturn(Mono.just(b));
 
-        StepVerifier.create(useCase.register(c))
-                .expectNextMatches(saved -> saved.getName().equals("Backend Developer"))
+        StepVerifier.create(useCase.register(b))
+                .expectNextMatches(saved -> saved.getName().equals("Java Backend"))
                 .verifyComplete();
 
-        verify(persistence).save(c);
+        verify(persistence).save(b);
+    }
+
+    @Test
+    void register_resets_cached_total_only_on_success() {
+        Bootcamp b = sampleBootcamp();
+        PageRequest pr = new PageRequest(0, 10);
+        when(persistence.findPage(pr, SortBy.NAME, Order.ASC))
+                .thenReturn(Flux.just(b));
+        when(persistence.countAll()).thenReturn(Mono.just(1L));
+        useCase.list(pr, SortBy.NAME, Order.ASC).block();
+
+        when(persistence.existsByName(anyString()))
+                .thenReturn(Mono.just(false));
+        when(persistence.save(any(Bootcamp.class)))
+                .thenReturn(Mono.just(b));
+        when(capacityGatewayPort.findExistingIds(anyList()))
+                .thenReturn(Flux.just(1L));
+        StepVerifier.create(useCase.register(b))
+                .expectError(BusinessException.class)
+                .verify();
+        useCase.list(pr, SortBy.NAME, Order.ASC).block();
+        verify(persistence, times(1)).countAll();
+
+        when(capacityGatewayPort.findExistingIds(anyList()))
+                .thenReturn(Flux.fromIterable(b.getCapacityIds()));
+        StepVerifier.create(useCase.register(b))
+                .expectNextCount(1)
+                .verifyComplete();
+        useCase.list(pr, SortBy.NAME, Order.ASC).block();
+        verify(persistence, times(2)).countAll();
     }
 
     @Test
     void register_fails_when_name_blank() {
-        Capacity c = sampleCapacity();
-        c.setName("");
+        Bootcamp b = sampleBootcamp();
+        b.setName("");
+
+        StepVerifier.create(useCase.register(b))
+                .expectErrorMatches(ex -> ex instanceof BusinessException &&
+                        ((BusinessException) ex).getTechnicalMessage() == TechnicalMessage.BOOTCAMP_NAME_REQUIRED)
+                .verify();
+    }
+
+    @Test
+    void register_fails_when_no_capacities() {
+        Bootcamp b = sampleBootcamp();
+        b.setCapacityIds(List.of());
 
-        StepVerifier.create(useCase.register(c))
+        StepVerifier.create(useCase.register(b))
                 .expectErrorMatches(ex -> ex instanceof BusinessException &&
-                        ((BusinessException) ex).getTechnicalMessage() == TechnicalMessage.CAPACITY_NAME_REQUIRED)
+                        ((BusinessException) ex).getTechnicalMessage() == TechnicalMessage.BOOTCAMP_MIN_CAPACITIES)
                 .verify();
     }
 
     @Test
-    void register_fails_when_less_than_three_techs() {
-        Capacity c = sampleCapacity();
-        c.setTechnologyIds(List.of(1L, 2L));
+    void register_fails_when_more_than_four_capacities() {
+        Bootcamp b = sampleBootcamp();
+        b.setCapacityIds(List.of(1L, 2L, 3L, 4L, 5L));
 
-        StepVerifier.create(useCase.register(c))
+        StepVerifier.create(useCase.register(b))
                 .expectErrorMatches(ex -> ex instanceof BusinessException &&
-                        ((BusinessException) ex).getTechnicalMessage() == TechnicalMessage.CAPACITY_MIN_TECHS)
+                        ((BusinessException) ex).getTechnicalMessage() == TechnicalMessage.BOOTCAMP_MAX_CAPACITIES)
                 .verify();
     }
 
     @Test
-    void register_fails_when_duplicate_techs() {
-        Capacity c = sampleCapacity();
-        c.setTechnologyIds(List.of(1L, 1L, 2L));
+    void register_fails_when_duplicate_capacities() {
+        Bootcamp b = sampleBootcamp();
+        b.setCapacityIds(List.of(1L, 1L));
 
-        StepVerifier.create(useCase.register(c))
+        StepVerifier.create(useCase.register(b))
                 .expectErrorMatches(ex -> ex instanceof BusinessException &&
-                        ((BusinessException) ex).getTechnicalMessage() == TechnicalMessage.CAPACITY_DUP_TECHS)
+                        ((BusinessException) ex).getTechnicalMessage() == TechnicalMessage.INVALID_PARAMETERS)
                 .verify();
     }
 
     @Test
-    void register_fails_when_tech_not_found() {
-        Capacity c = sampleCapacity();
+    void register_fails_when_capacity_not_found() {
+        Bootcamp b = sampleBootcamp();
 
-        when(technologyGatewayPort.findExistingIds(anyList()))
-                .thenReturn(Flux.just(1L, 2L)); // faltaría el 3
+        when(capacityGatewayPort.findExistingIds(anyList()))
+                .thenReturn(Flux.just(1L)); // faltaría el 2
         when(persistence.existsByName(anyString())).thenReturn(Mono.just(false));
         when(persistence.save(any())).thenReturn(Mono.empty());
-        StepVerifier.create(useCase.register(c))
+
+        StepVerifier.create(useCase.register(b))
                 .expectErrorSatisfies(ex -> {
                     assertTrue(ex instanceof BusinessException);
-                    assertEquals(TechnicalMessage.TECHNOLOGY_NOT_FOUND,
+                    assertEquals(TechnicalMessage.CAPACITY_NOT_FOUND,
                             ((BusinessException) ex).getTechnicalMessage());
                 })
                 .verify();
@@ -113,26 +159,151 @@ class BootcampUseCaseTest {
 
     @Test
     void register_fails_when_name_already_exists() {
-        Capacity c = sampleCapacity();
+        Bootcamp b = sampleBootcamp();
 
-        when(technologyGatewayPort.findExistingIds(anyList()))
-                .thenReturn(Flux.fromIterable(c.getTechnologyIds()));
+        when(capacityGatewayPort.findExistingIds(anyList()))
+                .thenReturn(Flux.fromIterable(b.getCapacityIds()));
         when(persistence.existsByName(anyString()))
                 .thenReturn(Mono.just(true));
         when(persistence.save(any())).thenReturn(Mono.empty());
 
-        StepVerifier.create(useCase.register(c))
+        StepVerifier.create(useCase.register(b))
                 .expectErrorSatisfies(ex -> {
                     assertTrue(ex instanceof BusinessException);
-                    assertEquals(TechnicalMessage.CAPACITY_ALREADY_EXISTS,
+                    assertEquals(TechnicalMessage.BOOTCAMP_ALREADY_EXISTS,
                             ((BusinessException) ex).getTechnicalMessage());
                 })
                 .verify();
     }
 
+    @Test
+    void register_runs_capacity_and_name_checks_concurrently() {
+        Bootcamp b = sampleBootcamp();
+        when(persistence.save(any(Bootcamp.class))).thenReturn(Mono.just(b));
+
+        // cada validación tarda 100ms: en paralelo el alta termina a los 100ms, en secuencia a los 200ms
+        StepVerifier.withVirtualTime(() -> {
+                    when(capacityGatewayPort.findExistingIds(anyList()))
+                            .thenReturn(Flux.fromIterable(b.getCapacityIds()).delaySubscription(Duration.ofMillis(100)));
+                    when(persistence.existsByName(anyString()))
+                            .thenReturn(Mono.just(false).delaySubscription(Duration.ofMillis(100)));
+                    return useCase.register(b);
+                })
+                .expectSubscription()
+                .expectNoEvent(Duration.ofMillis(99))
+                .thenAwait(Duration.ofMillis(1))
+                .expectNextCount(1)
+                .verifyComplete();
+    }
+
+    @Test
+    void register_reports_capacity_error_before_name_error_regardless_of_timing() {
+        Bootcamp b = sampleBootcamp();
+
+        // el nombre duplicado se conoce antes, pero la precedencia sigue siendo CAPACITY_NOT_FOUND
+        StepVerifier.withVirtualTime(() -> {
+                    when(capacityGatewayPort.findExistingIds(anyList()))
+                            .thenReturn(Flux.just(1L).delaySubscription(Duration.ofMillis(100)));
+                    when(persistence.existsByName(anyString()))
+                            .thenReturn(Mono.just(true));
+                    return useCase.register(b);
+                })
+                .thenAwait(Duration.ofMillis(100))
+                .expectErrorSatisfies(ex -> assertEquals(TechnicalMessage.CAPACITY_NOT_FOUND,
+                        ((BusinessException) ex).getTechnicalMessage()))
+                .verify();
+
+        verify(persistence, never()).save(any());
+    }
+
+    @Test
+    void register_fast_path_relies_on_unique_index() {
+        Bootcamp b = sampleBootcamp();
+        BootcampUseCase fastPath = new BootcampUseCase(persistence, capacityGatewayPort, Duration.ofSeconds(5), true);
+
+        when(capacityGatewayPort.findExistingIds(anyList()))
+                .thenReturn(Flux.fromIterable(b.getCapacityIds()));
+        when(persistence.save(any(Bootcamp.class)))
+                .thenReturn(Mono.error(new BusinessException(TechnicalMessage.BOOTCAMP_ALREADY_EXISTS)));
+
+        StepVerifier.create(fastPath.register(b))
+                .expectErrorSatisfies(ex -> assertEquals(TechnicalMessage.BOOTCAMP_ALREADY_EXISTS,
+                        ((BusinessException) ex).getTechnicalMessage()))
+                .verify();
+
+        verify(persistence, never()).existsByName(anyString());
+    }
+
+    @Test
+    void registerAll_validates_with_one_lookup_and_reports_per_item() {
+        Bootcamp ok = sampleBootcamp();
+        Bootcamp blank = sampleBootcamp();
+        blank.setName("");
+        Bootcamp missingCapacity = sampleBootcamp();
+        missingCapacity.setName("Data");
+        missingCapacity.setCapacityIds(List.of(9L));
+        Bootcamp taken = sampleBootcamp();
+        taken.setName("Frontend");
+        Bootcamp repeated = sampleBootcamp();
+
+        when(capacityGatewayPort.findExistingIds(anyList()))
+                .thenReturn(Flux.just(1L, 2L));
+        when(persistence.findExistingNames(anyCollection()))
+                .thenReturn(Flux.just("Frontend"));
+        when(persistence.saveAll(anyList()))
+                .thenAnswer(inv -> Flux.fromIterable(inv.<List<Bootcamp>>getArgument(0)));
+
+        StepVerifier.create(useCase.registerAll(List.of(ok, blank, missingCapacity, taken, repeated)).collectList())
+                .assertNext(results -> {
+                    assertEquals(5, results.size());
+                    assertTrue(results.get(0).isCreated());
+                    assertEquals(TechnicalMessage.BOOTCAMP_NAME_REQUIRED, results.get(1).error());
+                    assertEquals(TechnicalMessage.CAPACITY_NOT_FOUND, results.get(2).error());
+                    assertEquals(TechnicalMessage.BOOTCAMP_ALREADY_EXISTS, results.get(3).error());
+                    assertEquals(TechnicalMessage.BOOTCAMP_ALREADY_EXISTS, results.get(4).error());
+                })
+                .verifyComplete();
+
+        verify(capacityGatewayPort, times(1)).findExistingIds(List.of(1L, 2L, 9L));
+        verify(persistence, times(1)).findExistingNames(anyCollection());
+        verify(persistence, times(1)).saveAll(List.of(ok));
+        verify(persistence, never()).existsByName(anyString());
+    }
+
+    @Test
+    void registerAll_chunk_rejected_by_unique_index_is_retried_per_item() {
+        Bootcamp ok = sampleBootcamp();
+        Bootcamp sameUnderCollation = sampleBootcamp();
+        sameUnderCollation.setName("JAVA BACKEND");
+
+        when(capacityGatewayPort.findExistingIds(anyList()))
+                .thenReturn(Flux.just(1L, 2L));
+        when(persistence.findExistingNames(anyCollection()))
+                .thenReturn(Flux.empty());
+        // el índice único (collation *_ai_ci) rechaza el bloque y después al segundo ítem solo
+        when(persistence.saveAll(anyList()))
+                .thenAnswer(inv -> {
+                    List<Bootcamp> chunk = inv.getArgument(0);
+                    return chunk.contains(sameUnderCollation)
+                            ? Flux.error(new BusinessException(TechnicalMessage.BOOTCAMP_ALREADY_EXISTS))
+                            : Flux.fromIterable(chunk);
+                });
+
+        StepVerifier.create(useCase.registerAll(List.of(ok, sameUnderCollation)).collectList())
+                .assertNext(results -> {
+                    assertTrue(results.get(0).isCreated());
+                    assertEquals(TechnicalMessage.BOOTCAMP_ALREADY_EXISTS, results.get(1).error());
+                })
+                .verifyComplete();
+
+        verify(persistence).saveAll(List.of(ok, sameUnderCollation));
+        verify(persistence).saveAll(List.of(ok));
+        verify(persistence).saveAll(List.of(sameUnderCollation));
+    }
+
     @Test
     void list_all_ok() {
-        when(persistence.findAll()).thenReturn(Flux.just(sampleCapacity()));
+        when(persistence.findAll()).thenReturn(Flux.just(sampleBootcamp()));
 
         StepVerifier.create(useCase.list())
                 .expectNextCount(1)
@@ -141,10 +312,10 @@ class BootcampUseCaseTest {
 
     @Test
     void findById_ok() {
-        when(persistence.findById(1L)).thenReturn(Mono.just(sampleCapacity()));
+        when(persistence.findById(1L)).thenReturn(Mono.just(sampleBootcamp()));
 
         StepVerifier.create(useCase.findById(1L))
-                .expectNextMatches(c -> c.getId() == 1L)
+                .expectNextMatches(b -> b.getId() == 1L)
                 .verifyComplete();
     }
 
@@ -152,11 +323,28 @@ class BootcampUseCaseTest {
     void list_paged_ok() {
         PageRequest pr = new PageRequest(0, 10);
         when(persistence.findPage(pr, SortBy.NAME, Order.ASC))
-                .thenReturn(Flux.just(sampleCapacity()));
+                .thenReturn(Flux.just(sampleBootcamp()));
         when(persistence.countAll()).thenReturn(Mono.just(1L));
 
         StepVerifier.create(useCase.list(pr, SortBy.NAME, Order.ASC))
-                .expectNextMatches(page -> page.totalElements() == 1 && page.content().size() == 1)
+                .expectNextMatches(page -> page.totalElements() == 1
+                        && page.content().size() == 1
+                        && page.nextCursor() == null)
+                .verifyComplete();
+    }
+
+    @Test
+    void list_paged_without_total_skips_count() {
+        PageRequest pr = new PageRequest(0, 1);
+        when(persistence.findPage(pr, SortBy.NAME, Order.ASC))
+                .thenReturn(Flux.just(sampleBootcamp()));
+
+        StepVerifier.create(useCase.list(pr, SortBy.NAME, Order.ASC, false))
+                .expectNextMatches(page -> page.totalElements() == null
+                        && page.nextCursor() != null
+                        && page.nextCursor().id() == 1L)
                 .verifyComplete();
+
+        verify(persistence, never()).countAll();
     }
 }
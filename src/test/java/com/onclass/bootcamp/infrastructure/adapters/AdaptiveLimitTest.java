@@ -0,0 +1,147 @@
+package com.onclass.bootcamp.infrastructure.adapters;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntToLongFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdaptiveLimitTest {
+
+    private static final long MS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final AtomicLong nanos = new AtomicLong(TimeUnit.SECONDS.toNanos(1));
+
+    private AdaptiveLimit limit(int initial) {
+        return new AdaptiveLimit(true, initial, 2, 100, 0.9, 2.0, 250, nanos::get);
+    }
+
+    // Cliente saturado: siempre `limit` llamadas en vuelo; cada una sale al terminar la anterior.
+    // Devuelve el límite después de cada llamada.
+    private List<Integer> run(AdaptiveLimit limit, int calls, IntToLongFunction rttForLimit) {
+        List<Integer> limits = new ArrayList<>(calls);
+        for (int i = 0; i < calls; i++) {
+            int current = limit.current();
+            long rtt = rttForLimit.applyAsLong(current);
+            nanos.addAndGet(rtt);
+            limits.add(limit.onSuccess(rtt, current));
+        }
+        return limits;
+    }
+
+    private static int decreases(List<Integer> limits) {
+        int decreases = 0;
+        for (int i = 1; i < limits.size(); i++) {
+            if (limits.get(i) < limits.get(i - 1)) decreases++;
+        }
+        return decreases;
+    }
+
+    @Test
+    void onSuccess_steadyRttAndLimitInUse_growsOneStepAtATime() {
+        AdaptiveLimit limit = limit(10);
+
+        List<Integer> limits = run(limit, 2_000, current -> 10 * MS);
+
+        assertThat(limit.current()).isGreaterThan(50);
+        for (int i = 1; i < limits.size(); i++) {
+            assertThat(limits.get(i) - limits.get(i - 1)).isBetween(0, 1);
+        }
+    }
+
+    @Test
+    void onSuccess_limitNotInUse_doesNotGrow() {
+        AdaptiveLimit limit = limit(10);
+
+        for (int i = 0; i < 1_000; i++) {
+            nanos.addAndGet(10 * MS);
+            limit.onSuccess(10 * MS, 1);
+        }
+
+        assertThat(limit.current()).isEqualTo(10);
+    }
+
+    @Test
+    void onSuccess_observedRttAboveTolerance_decreasesOncePerObservedRttWindow() {
+        AdaptiveLimit limit = limit(20);
+        run(limit, 200, current -> 10 * MS);
+
+        // el downstream pasa a 50 ms: en cuanto la mediana lo refleja baja, una sola vez
+        List<Integer> limits = run(limit, 60, current -> 50 * MS);
+        assertThat(decreases(limits)).isEqualTo(1);
+        int afterFirstDecrease = limit.current();
+
+        // llamadas lentas que salieron antes de la bajada: no la repiten
+        for (int i = 0; i < 100; i++) {
+            limit.onSuccess(TimeUnit.SECONDS.toNanos(1), afterFirstDecrease);
+        }
+        assertThat(limit.current()).isEqualTo(afterFirstDecrease);
+
+        // con muestras nuevas, igual de lentas, vuelve a bajar
+        run(limit, 40, current -> 50 * MS);
+        assertThat(limit.current()).isLessThan(afterFirstDecrease);
+    }
+
+    @Test
+    void onOverload_burstOfCallsSentBeforeTheDecrease_decreasesOnce() {
+        AdaptiveLimit limit = limit(20);
+
+        for (int i = 0; i < 10; i++) {
+            limit.onOverload(100 * MS);
+        }
+        assertThat(limit.current()).isEqualTo(18);
+
+        nanos.addAndGet(200 * MS);
+        assertThat(limit.onOverload(100 * MS)).isEqualTo(16);
+    }
+
+    @Test
+    void onSuccess_afterCongestionEnds_recovers() {
+        AdaptiveLimit limit = limit(20);
+        run(limit, 200, current -> 10 * MS);
+        int healthy = limit.current();
+
+        run(limit, 400, current -> 50 * MS);
+        int congested = limit.current();
+        assertThat(congested).isLessThan(healthy);
+
+        run(limit, 2_000, current -> 10 * MS);
+        assertThat(limit.current()).isGreaterThan(healthy);
+    }
+
+    @Test
+    void onSuccess_rttGrowingWithTheQueue_keepsTheLimitNearToleranceTimesCapacity() {
+        AdaptiveLimit limit = limit(10);
+        int capacity = 20;
+
+        // hasta 20 en vuelo responde en 10 ms; por encima, la cola lo alarga en proporción
+        List<Integer> limits = run(limit, 2_000, current -> 10 * MS * Math.max(capacity, current) / capacity);
+
+        assertThat(limits.subList(1_000, 2_000)).allSatisfy(l -> assertThat(l).isBetween(capacity, 2 * capacity + 2));
+    }
+
+    @Test
+    void onSuccess_healthyLognormalDownstream_keepsTheLimitHigh() {
+        AdaptiveLimit limit = limit(25);
+        Random random = new Random(42);
+
+        // mediana 20 ms, p99 ~ 3.2 x la mediana; el RTT no depende de la carga
+        List<Integer> limits = run(limit, 20_000,
+                current -> (long) (20 * MS * Math.exp(0.5 * random.nextGaussian())));
+
+        assertThat(limits.subList(10_000, 20_000)).allSatisfy(l -> assertThat(l).isGreaterThanOrEqualTo(90));
+    }
+
+    @Test
+    void disabled_keepsTheInitialLimit() {
+        AdaptiveLimit limit = new AdaptiveLimit(false, 10, 2, 100, 0.9, 2.0, 250, nanos::get);
+
+        run(limit, 500, current -> 10 * MS);
+        assertThat(limit.onOverload(10 * MS)).isEqualTo(10);
+    }
+}
@@ -0,0 +1,107 @@
+package com.onclass.bootcamp.infrastructure.adapters;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.onclass.bootcamp.infrastructure.entrypoints.dto.TechnologyDTO;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BulkEndpointsTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private JsonNode json(String body) throws Exception {
+        return objectMapper.readTree(body);
+    }
+
+    private static WebClientResponseException status(int code) {
+        return WebClientResponseException.create(code, "status " + code, null, null, null);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {404, 405, 501})
+    void isUnsupported_noBulkEndpointStatus_isTrue(int code) {
+        assertThat(BulkEndpoints.isUnsupported(status(code))).isTrue();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {400, 429, 500, 503})
+    void isUnsupported_otherStatus_isFalse(int code) {
+        assertThat(BulkEndpoints.isUnsupported(status(code))).isFalse();
+    }
+
+    @Test
+    void isUnsupported_decodingError_isTrue_otherErrors_areNot() {
+        assertThat(BulkEndpoints.isUnsupported(new DecodingException("page body"))).isTrue();
+        assertThat(BulkEndpoints.isUnsupported(new TimeoutException())).isFalse();
+    }
+
+    @Test
+    void items_bareArray_isDecoded() throws Exception {
+        StepVerifier.create(BulkEndpoints.items(json("[{\"id\":1,\"name\":\"Java\"},{\"id\":2,\"name\":\"Go\"}]"),
+                        TechnologyDTO.class, objectMapper))
+                .assertNext(t -> assertThat(t.getName()).isEqualTo("Java"))
+                .assertNext(t -> assertThat(t.getName()).isEqualTo("Go"))
+                .verifyComplete();
+    }
+
+    @Test
+    void items_dataEnvelope_isDecoded() throws Exception {
+        StepVerifier.create(BulkEndpoints.items(json("{\"code\":\"200\",\"data\":[{\"id\":1,\"name\":\"Java\"}]}"),
+                        TechnologyDTO.class, objectMapper))
+                .assertNext(t -> assertThat(t.getId()).isEqualTo(1L))
+                .verifyComplete();
+    }
+
+    @Test
+    void items_otherShape_isADecodingError() throws Exception {
+        StepVerifier.create(BulkEndpoints.items(json("{\"content\":[{\"id\":1}],\"page\":0}"),
+                        TechnologyDTO.class, objectMapper))
+                .expectError(DecodingException.class)
+                .verify();
+        StepVerifier.create(BulkEndpoints.items(json("{\"data\":{\"id\":1}}"), TechnologyDTO.class, objectMapper))
+                .expectError(DecodingException.class)
+                .verify();
+        StepVerifier.create(BulkEndpoints.items(null, TechnologyDTO.class, objectMapper))
+                .expectError(DecodingException.class)
+                .verify();
+    }
+
+    @Test
+    void items_elementsOfTheWrongType_isADecodingError() throws Exception {
+        StepVerifier.create(BulkEndpoints.items(json("[{\"id\":\"not-a-number\"}]"), TechnologyDTO.class, objectMapper))
+                .expectError(DecodingException.class)
+                .verify();
+    }
+
+    @Test
+    void availability_disable_turnsBulkOffUntilReprobeAfter() {
+        BulkEndpoints.Availability availability = new BulkEndpoints.Availability();
+        assertThat(availability.isAvailable(Duration.ofHours(1))).isTrue();
+
+        assertThat(availability.disable()).isTrue();
+        assertThat(availability.disable()).isFalse();   // solo el primero lo loguea
+
+        assertThat(availability.isAvailable(Duration.ofHours(1))).isFalse();
+    }
+
+    @Test
+    void availability_afterReprobeAfter_isAvailableAgain() {
+        BulkEndpoints.Availability availability = new BulkEndpoints.Availability();
+        availability.disable();
+
+        assertThat(availability.isAvailable(Duration.ZERO)).isTrue();
+        // ya se volvió a probar: el próximo "sin bulk" lo apaga de nuevo
+        assertThat(availability.isAvailable(Duration.ofHours(1))).isTrue();
+        assertThat(availability.disable()).isTrue();
+    }
+}
@@ -0,0 +1,160 @@
+package com.onclass.bootcamp.infrastructure.adapters;
+
+import com.onclass.bootcamp.infrastructure.adapters.ConcurrencyLimiter.ConcurrencyLimitExceededException;
+import com.onclass.bootcamp.infrastructure.adapters.ConcurrencyLimiter.Lease;
+import com.onclass.bootcamp.infrastructure.adapters.ConcurrencyLimiter.Permits;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+import reactor.util.context.Context;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConcurrencyLimiterTest {
+
+    private static final Duration QUEUE_TIMEOUT = Duration.ofMillis(100);
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    // Límite fijo (adaptive.enabled=false) para que solo cuenten los permisos
+    private ConcurrencyLimiter limiter(int limit, int maxQueued, int perRequest, int perRequestMaxQueued) {
+        AdaptiveLimit adaptive = new AdaptiveLimit(false, limit, 1, limit, 0.9, 2.0, 10);
+        return new ConcurrencyLimiter("test", adaptive, maxQueued, QUEUE_TIMEOUT, perRequest, perRequestMaxQueued,
+                registry);
+    }
+
+    private double gauge(String name) {
+        return registry.get(name).tag("downstream", "test").gauge().value();
+    }
+
+    private double rejected(String reason) {
+        return registry.get("gateway.limiter.rejected").tag("reason", reason).counter().count();
+    }
+
+    @Test
+    void lease_releasedTwice_returnsOnePermit() {
+        Permits permits = new Permits(1, 10);
+        Lease lease = permits.acquire().block();
+
+        lease.release();
+        lease.release();
+
+        assertThat(permits.inUse()).isZero();
+        permits.acquire().block();
+        permits.acquire().subscribe();
+        assertThat(permits.inUse()).isEqualTo(1);
+        assertThat(permits.queued()).isEqualTo(1);
+    }
+
+    @Test
+    void limit_callEnds_releasesThePermitToTheNextInQueue() {
+        ConcurrencyLimiter limiter = limiter(1, 10, 10, 10);
+        Sinks.One<String> first = Sinks.one();
+
+        limiter.limit(first.asMono()).subscribe();
+        StepVerifier.create(limiter.limit(Mono.just("second")))
+                .then(() -> {
+                    assertThat(gauge("gateway.limiter.queued")).isEqualTo(1.0);
+                    first.tryEmitValue("first");
+                })
+                .expectNext("second")
+                .verifyComplete();
+
+        assertThat(gauge("gateway.limiter.in_flight")).isZero();
+    }
+
+    @Test
+    void limit_cancelledWhileQueued_leavesTheQueueWithoutTakingAPermit() {
+        ConcurrencyLimiter limiter = limiter(1, 10, 10, 10);
+        Sinks.One<String> first = Sinks.one();
+        limiter.limit(first.asMono()).subscribe();
+
+        Disposable queued = limiter.limit(Mono.just("queued")).subscribe();
+        assertThat(gauge("gateway.limiter.queued")).isEqualTo(1.0);
+        queued.dispose();
+
+        assertThat(gauge("gateway.limiter.queued")).isZero();
+        first.tryEmitValue("first");
+        assertThat(gauge("gateway.limiter.in_flight")).isZero();
+    }
+
+    @Test
+    void limit_waitLongerThanQueueTimeout_isRejected() {
+        ConcurrencyLimiter limiter = limiter(1, 10, 10, 10);
+        limiter.limit(Mono.never()).subscribe();
+
+        StepVerifier.create(limiter.limit(Mono.just("late")))
+                .expectErrorSatisfies(ex -> assertThat(ex)
+                        .isInstanceOf(ConcurrencyLimitExceededException.class)
+                        .extracting("reason").isEqualTo("queue_timeout"))
+                .verify(Duration.ofSeconds(2));
+
+        assertThat(rejected("queue_timeout")).isEqualTo(1.0);
+        assertThat(gauge("gateway.limiter.queued")).isZero();
+    }
+
+    @Test
+    void limit_queueFull_isRejectedImmediately() {
+        ConcurrencyLimiter limiter = limiter(1, 0, 10, 10);
+        limiter.limit(Mono.never()).subscribe();
+
+        StepVerifier.create(limiter.limit(Mono.just("rejected")))
+                .expectErrorSatisfies(ex -> assertThat(ex)
+                        .extracting("reason").isEqualTo("queue_full"))
+                .verify(Duration.ofSeconds(2));
+
+        assertThat(rejected("queue_full")).isEqualTo(1.0);
+    }
+
+    @Test
+    void limit_sameRequest_takesAtMostItsShare_otherRequestsStillGetIn() {
+        ConcurrencyLimiter limiter = limiter(10, 10, 2, 10);
+        Context request = ConcurrencyLimiter.install(Context.empty());
+
+        for (int i = 0; i < 3; i++) {
+            limiter.limit(Mono.never()).contextWrite(request).subscribe();
+        }
+        assertThat(gauge("gateway.limiter.in_flight")).isEqualTo(2.0);
+
+        limiter.limit(Mono.never()).contextWrite(ConcurrencyLimiter.install(Context.empty())).subscribe();
+        assertThat(gauge("gateway.limiter.in_flight")).isEqualTo(3.0);
+        assertThat(gauge("gateway.limiter.queued")).isZero();
+    }
+
+    @Test
+    void limit_sameRequestOverItsQueue_isRejected() {
+        ConcurrencyLimiter limiter = limiter(10, 10, 1, 1);
+        Context request = ConcurrencyLimiter.install(Context.empty());
+        limiter.limit(Mono.never()).contextWrite(request).subscribe();
+        limiter.limit(Mono.never()).contextWrite(request).subscribe();
+
+        StepVerifier.create(limiter.limit(Mono.just("third")).contextWrite(request))
+                .expectErrorSatisfies(ex -> assertThat(ex)
+                        .extracting("reason").isEqualTo("request_queue_full"))
+                .verify(Duration.ofSeconds(2));
+
+        assertThat(rejected("request_queue_full")).isEqualTo(1.0);
+        assertThat(gauge("gateway.limiter.in_flight")).isEqualTo(1.0);
+    }
+
+    @Test
+    void limit_shareIsReturnedWhenTheGlobalQueueRejects() {
+        ConcurrencyLimiter limiter = limiter(1, 0, 1, 10);
+        limiter.limit(Mono.never()).subscribe();
+        Context request = ConcurrencyLimiter.install(Context.empty());
+
+        StepVerifier.create(limiter.limit(Mono.just("rejected")).contextWrite(request))
+                .expectError(ConcurrencyLimitExceededException.class)
+                .verify(Duration.ofSeconds(2));
+
+        // el cupo del request quedó libre: la siguiente llamada vuelve a llegar a la cola global
+        StepVerifier.create(limiter.limit(Mono.just("again")).contextWrite(request))
+                .expectErrorSatisfies(ex -> assertThat(ex).extracting("reason").isEqualTo("queue_full"))
+                .verify(Duration.ofSeconds(2));
+    }
+}
@@ -0,0 +1,86 @@
+package com.onclass.bootcamp.infrastructure.adapters;
+
+import com.onclass.bootcamp.infrastructure.adapters.Deadlines.DeadlineExceededException;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DeadlinesTest {
+
+    private static final Duration SHORT = Duration.ofMillis(50);
+    private static final Duration LONG = Duration.ofSeconds(10);
+
+    private final AtomicInteger subscriptions = new AtomicInteger();
+
+    private Mono<String> never() {
+        return Mono.<String>never().doOnSubscribe(s -> subscriptions.incrementAndGet());
+    }
+
+    @Test
+    void bounded_withoutDeadline_usesTheAdapterTimeout() {
+        StepVerifier.create(Deadlines.bounded(never(), SHORT))
+                .expectErrorSatisfies(ex -> assertThat(ex)
+                        .isInstanceOf(TimeoutException.class)
+                        .isNotInstanceOf(DeadlineExceededException.class))
+                .verify(Duration.ofSeconds(2));
+    }
+
+    @Test
+    void bounded_adapterTimeoutShorterThanTheDeadline_isAPlainTimeout() {
+        StepVerifier.create(Deadlines.bounded(never(), SHORT).contextWrite(Deadlines.within(LONG)))
+                .expectErrorSatisfies(ex -> assertThat(ex)
+                        .isInstanceOf(TimeoutException.class)
+                        .isNotInstanceOf(DeadlineExceededException.class))
+                .verify(Duration.ofSeconds(2));
+    }
+
+    @Test
+    void bounded_deadlineShorterThanTheAdapterTimeout_failsWithDeadlineExceeded() {
+        StepVerifier.create(Deadlines.bounded(never(), LONG).contextWrite(Deadlines.within(SHORT)))
+                .expectError(DeadlineExceededException.class)
+                .verify(Duration.ofSeconds(2));
+    }
+
+    @Test
+    void bounded_flux_deadlineShorterThanTheAdapterTimeout_failsWithDeadlineExceeded() {
+        StepVerifier.create(Deadlines.bounded(Flux.just("a").concatWith(Flux.never()), LONG)
+                        .contextWrite(Deadlines.within(SHORT)))
+                .expectNext("a")
+                .expectError(DeadlineExceededException.class)
+                .verify(Duration.ofSeconds(2));
+    }
+
+    @Test
+    void bounded_deadlineAlreadySpent_failsWithoutCalling() {
+        StepVerifier.create(Deadlines.bounded(never(), LONG).contextWrite(Deadlines.within(Duration.ZERO)))
+                .expectError(DeadlineExceededException.class)
+                .verify(Duration.ofSeconds(2));
+
+        assertThat(subscriptions).hasValue(0);
+    }
+
+    @Test
+    void bounded_answerWithinTheBudget_passesThrough() {
+        StepVerifier.create(Deadlines.bounded(Mono.just("ok"), SHORT).contextWrite(Deadlines.within(LONG)))
+                .expectNext("ok")
+                .verifyComplete();
+    }
+
+    @Test
+    void within_innerBudgetDoesNotReplaceTheRequestDeadline() {
+        Mono<String> call = Deadlines.bounded(never(), LONG)
+                .contextWrite(Deadlines.within(LONG))
+                .contextWrite(Deadlines.within(SHORT));
+
+        StepVerifier.create(call)
+                .expectError(DeadlineExceededException.class)
+                .verify(Duration.ofSeconds(2));
+    }
+}
@@ -0,0 +1,131 @@
+package com.onclass.bootcamp.infrastructure.adapters;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HedgingPolicyTest {
+
+    private static final Duration MIN_DELAY = Duration.ofMillis(100);
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final AtomicInteger subscriptions = new AtomicInteger();
+
+    private HedgingPolicy policy(boolean enabled, double maxRatio) {
+        return new HedgingPolicy("test", enabled, MIN_DELAY, maxRatio, registry);
+    }
+
+    // La primera suscripción responde a los 500 ms, las siguientes (hedge) a los 10 ms
+    private Mono<String> slowThenFast() {
+        return Mono.defer(() -> subscriptions.incrementAndGet() == 1
+                ? Mono.delay(Duration.ofMillis(500)).thenReturn("primary")
+                : Mono.delay(Duration.ofMillis(10)).thenReturn("hedge"));
+    }
+
+    private double hedges() {
+        return registry.get("gateway.hedge.requests").counter().count();
+    }
+
+    @Test
+    void apply_primaryAnswersBeforeTheDelay_noHedge() {
+        HedgingPolicy policy = policy(true, 1.0);
+        Mono<String> fast = Mono.defer(() -> {
+            subscriptions.incrementAndGet();
+            return Mono.delay(Duration.ofMillis(10)).thenReturn("primary");
+        });
+
+        StepVerifier.withVirtualTime(() -> policy.apply(fast))
+                .thenAwait(Duration.ofMillis(10))
+                .expectNext("primary")
+                .verifyComplete();
+
+        assertThat(subscriptions).hasValue(1);
+        assertThat(hedges()).isZero();
+    }
+
+    @Test
+    void apply_primarySlowerThanTheDelay_hedgeWins() {
+        HedgingPolicy policy = policy(true, 1.0);
+
+        StepVerifier.withVirtualTime(() -> policy.apply(slowThenFast()))
+                .thenAwait(MIN_DELAY.plusMillis(10))
+                .expectNext("hedge")
+                .verifyComplete();
+
+        assertThat(subscriptions).hasValue(2);
+        assertThat(hedges()).isEqualTo(1.0);
+    }
+
+    @Test
+    void apply_noHedgeBudget_secondCallIsNeverSubscribed() {
+        HedgingPolicy policy = policy(true, 0.0);
+
+        StepVerifier.withVirtualTime(() -> policy.apply(slowThenFast()))
+                .thenAwait(Duration.ofMillis(500))
+                .expectNext("primary")
+                .verifyComplete();
+
+        assertThat(subscriptions).hasValue(1);
+        assertThat(hedges()).isZero();
+    }
+
+    @Test
+    void apply_flux_noHedgeBudget_secondCallIsNeverSubscribed() {
+        HedgingPolicy policy = policy(true, 0.0);
+        Flux<String> call = slowThenFast().flux();
+
+        StepVerifier.withVirtualTime(() -> policy.apply(call))
+                .thenAwait(Duration.ofMillis(500))
+                .expectNext("primary")
+                .verifyComplete();
+
+        assertThat(subscriptions).hasValue(1);
+    }
+
+    @Test
+    void apply_flux_primarySlowerThanTheDelay_hedgeWins() {
+        HedgingPolicy policy = policy(true, 1.0);
+        Flux<String> call = slowThenFast().flux();
+
+        StepVerifier.withVirtualTime(() -> policy.apply(call))
+                .thenAwait(MIN_DELAY.plusMillis(10))
+                .expectNext("hedge")
+                .verifyComplete();
+
+        assertThat(subscriptions).hasValue(2);
+    }
+
+    @Test
+    void apply_hedgesAtMostMaxRatioOfTheCalls() {
+        HedgingPolicy policy = policy(true, 0.5);
+
+        for (int i = 0; i < 4; i++) {
+            subscriptions.set(0);
+            StepVerifier.withVirtualTime(() -> policy.apply(slowThenFast()))
+                    .thenAwait(Duration.ofMillis(500))
+                    .expectNextCount(1)
+                    .verifyComplete();
+        }
+
+        assertThat(hedges()).isEqualTo(2.0);
+    }
+
+    @Test
+    void apply_disabled_callsOnce() {
+        HedgingPolicy policy = policy(false, 1.0);
+
+        StepVerifier.withVirtualTime(() -> policy.apply(slowThenFast()))
+                .thenAwait(Duration.ofMillis(500))
+                .expectNext("primary")
+                .verifyComplete();
+
+        assertThat(subscriptions).hasValue(1);
+    }
+}
@@ -0,0 +1,136 @@
+package com.onclass.bootcamp.infrastructure.adapters.cache;
+
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.onclass.bootcamp.domain.exceptions.TechnicalException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReactiveLookupCacheTest {
+
+    private static final Duration TTL = Duration.ofMinutes(10);
+    private static final Duration NEGATIVE_TTL = Duration.ofSeconds(30);
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final Ticker ticker = nanos::get;
+    private final List<List<Long>> loads = new ArrayList<>();
+
+    private ReactiveLookupCache<Long> cache(Function<List<Long>, Flux<Long>> loader, Duration loadTimeout) {
+        return new ReactiveLookupCache<>("test", TTL, NEGATIVE_TTL, 100, loadTimeout,
+                ids -> {
+                    loads.add(ids);
+                    return loader.apply(ids);
+                },
+                Function.identity(), new SimpleMeterRegistry(), ticker);
+    }
+
+    // El downstream "conoce" los IDs pares
+    private static Flux<Long> evens(List<Long> ids) {
+        return Flux.fromIterable(ids).filter(id -> id % 2 == 0);
+    }
+
+    @Test
+    void getAll_secondCall_isServedFromCache() {
+        ReactiveLookupCache<Long> cache = cache(ReactiveLookupCacheTest::evens, Duration.ofSeconds(5));
+
+        StepVerifier.create(cache.getAll(List.of(2L, 4L))).expectNext(2L, 4L).verifyComplete();
+        StepVerifier.create(cache.getAll(List.of(4L, 2L))).expectNext(4L, 2L).verifyComplete();
+
+        assertThat(loads).hasSize(1);
+    }
+
+    @Test
+    void getAll_onlyMissingIdsAreLoaded() {
+        ReactiveLookupCache<Long> cache = cache(ReactiveLookupCacheTest::evens, Duration.ofSeconds(5));
+
+        cache.getAll(List.of(2L)).blockLast();
+        StepVerifier.create(cache.getAll(List.of(2L, 6L))).expectNext(2L, 6L).verifyComplete();
+
+        assertThat(loads).containsExactly(List.of(2L), List.of(6L));
+    }
+
+    @Test
+    void getAll_idNotReturned_isCachedAsNegativeUntilNegativeTtl() {
+        ReactiveLookupCache<Long> cache = cache(ReactiveLookupCacheTest::evens, Duration.ofSeconds(5));
+
+        StepVerifier.create(cache.getAll(List.of(2L, 3L))).expectNext(2L).verifyComplete();
+        StepVerifier.create(cache.getAll(List.of(3L))).verifyComplete();
+        assertThat(loads).hasSize(1);
+
+        nanos.addAndGet(NEGATIVE_TTL.plusSeconds(1).toNanos());
+        StepVerifier.create(cache.getAll(List.of(2L, 3L))).expectNext(2L).verifyComplete();
+
+        assertThat(loads).hasSize(2);
+        assertThat(loads.get(0)).containsExactlyInAnyOrder(2L, 3L);
+        assertThat(loads.get(1)).containsExactly(3L);
+    }
+
+    @Test
+    void getAll_afterTtl_reloads() {
+        ReactiveLookupCache<Long> cache = cache(ReactiveLookupCacheTest::evens, Duration.ofSeconds(5));
+
+        cache.getAll(List.of(2L)).blockLast();
+        nanos.addAndGet(TTL.plusSeconds(1).toNanos());
+        StepVerifier.create(cache.getAll(List.of(2L))).expectNext(2L).verifyComplete();
+
+        assertThat(loads).hasSize(2);
+    }
+
+    @Test
+    void getAll_loaderError_emitsWhatArrivedAndCachesNoFailure() {
+        ReactiveLookupCache<Long> cache = cache(
+                ids -> Flux.just(2L).concatWith(Flux.error(new IllegalStateException("boom"))),
+                Duration.ofSeconds(5));
+
+        StepVerifier.create(cache.getAll(List.of(2L, 4L)))
+                .expectNext(2L)
+                .expectError(TechnicalException.class)
+                .verify();
+
+        // 2 quedó guardado; 4 no (ni siquiera como negativo) y se vuelve a pedir
+        StepVerifier.create(cache.getAll(List.of(2L, 4L)))
+                .expectNext(2L)
+                .expectError(TechnicalException.class)
+                .verify();
+        assertThat(loads).hasSize(2);
+        assertThat(loads.get(0)).containsExactlyInAnyOrder(2L, 4L);
+        assertThat(loads.get(1)).containsExactly(4L);
+    }
+
+    @Test
+    void getAll_loadSlowerThanLoadTimeout_failsAndIsNotCached() throws InterruptedException {
+        ReactiveLookupCache<Long> cache = cache(ids -> Flux.never(), Duration.ofMillis(100));
+
+        StepVerifier.create(cache.getAll(List.of(2L)))
+                .expectError()
+                .verify(Duration.ofSeconds(2));
+        Thread.sleep(100); // la carga compartida también se corta a los 100 ms
+        StepVerifier.create(cache.getAll(List.of(2L)))
+                .expectError()
+                .verify(Duration.ofSeconds(2));
+
+        assertThat(loads).hasSize(2);
+    }
+
+    @Test
+    void getAll_concurrentCallers_shareOneLoad() {
+        ReactiveLookupCache<Long> cache = cache(
+                ids -> evens(ids).delaySubscription(Duration.ofMillis(50)), Duration.ofSeconds(5));
+
+        Map<Long, Long> first = Flux.merge(cache.getAll(List.of(2L)), cache.getAll(List.of(2L)))
+                .collectMap(id -> id, id -> id).block();
+
+        assertThat(first).containsOnlyKeys(2L);
+        assertThat(loads).hasSize(1);
+    }
+}
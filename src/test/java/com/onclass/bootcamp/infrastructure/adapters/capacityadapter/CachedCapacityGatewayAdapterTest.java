@@ -0,0 +1,120 @@
+package com.onclass.bootcamp.infrastructure.adapters.capacityadapter;
+
+import com.onclass.bootcamp.domain.enums.TechnicalMessage;
+import com.onclass.bootcamp.domain.exceptions.BusinessException;
+import com.onclass.bootcamp.domain.model.Bootcamp;
+import com.onclass.bootcamp.domain.spi.BootcampPersistencePort;
+import com.onclass.bootcamp.domain.spi.CapacityGatewayPort;
+import com.onclass.bootcamp.domain.usecase.BootcampUseCase;
+import com.onclass.bootcamp.infrastructure.adapters.cache.ReactiveLookupCache;
+import com.onclass.bootcamp.infrastructure.entrypoints.dto.CapacityDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CachedCapacityGatewayAdapterTest {
+
+    // capacity-service de mentira: los IDs que existen ahora mismo
+    private final Set<Long> downstream = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger fetches = new AtomicInteger();
+    private final AtomicInteger existenceChecks = new AtomicInteger();
+
+    private final CapacityGatewayPort adapter = new CapacityGatewayPort() {
+        @Override
+        public Flux<Long> findExistingIds(List<Long> ids) {
+            existenceChecks.incrementAndGet();
+            return Flux.fromIterable(ids).filter(downstream::contains);
+        }
+
+        @Override
+        public Flux<CapacityDTO> fetchByIds(List<Long> ids) {
+            fetches.incrementAndGet();
+            return Flux.fromIterable(ids).filter(downstream::contains).map(CachedCapacityGatewayAdapterTest::capacity);
+        }
+    };
+
+    private final CachedCapacityGatewayAdapter cached = new CachedCapacityGatewayAdapter(
+            new ReactiveLookupCache<>("capacities", Duration.ofMinutes(10), Duration.ofSeconds(30), 100,
+                    Duration.ofSeconds(5), adapter::fetchByIds, CapacityDTO::getId, new SimpleMeterRegistry()),
+            adapter);
+
+    private static CapacityDTO capacity(Long id) {
+        CapacityDTO dto = new CapacityDTO();
+        dto.setId(id);
+        dto.setName("Capacity " + id);
+        return dto;
+    }
+
+    @Test
+    void fetchByIds_isServedFromTheCache() {
+        downstream.add(1L);
+
+        cached.fetchByIds(List.of(1L)).blockLast();
+        StepVerifier.create(cached.fetchByIds(List.of(1L))).expectNextCount(1).verifyComplete();
+
+        assertThat(fetches).hasValue(1);
+    }
+
+    @Test
+    void findExistingIds_capacityDeletedAfterBeingCached_isNoLongerAccepted() {
+        downstream.add(1L);
+        cached.fetchByIds(List.of(1L)).blockLast();
+
+        downstream.remove(1L);
+
+        StepVerifier.create(cached.findExistingIds(List.of(1L))).verifyComplete();
+        assertThat(existenceChecks).hasValue(1);
+    }
+
+    @Test
+    void findExistingIds_capacityCreatedAfterANegativeLookup_isAccepted() {
+        StepVerifier.create(cached.fetchByIds(List.of(2L))).verifyComplete();
+
+        downstream.add(2L);
+
+        StepVerifier.create(cached.findExistingIds(List.of(2L))).expectNext(2L).verifyComplete();
+        // la lectura sigue viendo el negativo hasta negative-ttl; la validación no
+        StepVerifier.create(cached.fetchByIds(List.of(2L))).verifyComplete();
+    }
+
+    @Test
+    void register_capacityDeletedAfterBeingCached_isRejected() {
+        BootcampPersistencePort persistence = mock(BootcampPersistencePort.class);
+        when(persistence.existsByName(anyString())).thenReturn(Mono.just(false));
+        BootcampUseCase useCase = new BootcampUseCase(persistence, cached);
+        downstream.addAll(List.of(1L, 2L));
+        cached.fetchByIds(List.of(1L, 2L)).blockLast();
+
+        downstream.remove(2L);
+
+        StepVerifier.create(useCase.register(Bootcamp.builder()
+                        .name("Java Backend")
+                        .description("Backend bootcamp with Spring")
+                        .launchDate(LocalDate.of(2026, 1, 15))
+                        .duration(12)
+                        .capacityIds(List.of(1L, 2L))
+                        .build()))
+                .expectErrorSatisfies(ex -> assertThat(ex)
+                        .isInstanceOf(BusinessException.class)
+                        .extracting("technicalMessage").isEqualTo(TechnicalMessage.CAPACITY_NOT_FOUND))
+                .verify();
+        verify(persistence, never()).save(any());
+    }
+}
@@ -0,0 +1,222 @@
+package com.onclass.bootcamp.infrastructure.adapters.capacityadapter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.onclass.bootcamp.domain.exceptions.TechnicalException;
+import com.onclass.bootcamp.infrastructure.adapters.AdaptiveLimit;
+import com.onclass.bootcamp.infrastructure.adapters.ConcurrencyLimiter;
+import com.onclass.bootcamp.infrastructure.adapters.GatewayResilience;
+import com.onclass.bootcamp.infrastructure.adapters.HedgingPolicy;
+import com.onclass.bootcamp.infrastructure.entrypoints.dto.CapacityDTO;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.retry.Retry;
+import io.github.resilience4j.retry.RetryConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CapacityWebClientAdapterTest {
+
+    // Rutas pedidas al capacity-service de mentira, en orden de llegada
+    private final List<String> requests = new CopyOnWriteArrayList<>();
+    // IDs de cada GET /capacities?ids=...
+    private final List<List<Long>> chunks = new CopyOnWriteArrayList<>();
+
+    private CapacityWebClientAdapter adapter(Function<ClientRequest, ClientResponse> downstream,
+                                             Duration bulkReprobeAfter) {
+        WebClient webClient = WebClient.builder()
+                .exchangeFunction(request -> {
+                    requests.add(request.url().getPath()
+                            + (request.url().getRawQuery() != null ? "?" + request.url().getRawQuery() : ""));
+                    if (isBulk(request)) chunks.add(requestedIds(request));
+                    return Mono.just(downstream.apply(request));
+                })
+                .build();
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter("capacity-service",
+                new AdaptiveLimit(false, 10, 1, 10, 0.9, 2.0, 10), 100, Duration.ofSeconds(1), 10, 100,
+                new SimpleMeterRegistry());
+        GatewayResilience resilience = new GatewayResilience("capacity-service",
+                CircuitBreaker.ofDefaults("capacityClient"),
+                Retry.of("capacityRetry", RetryConfig.custom().maxAttempts(1).build()),
+                limiter,
+                new HedgingPolicy("capacity-service", false, Duration.ofMillis(50), 0.1, new SimpleMeterRegistry()),
+                Duration.ofSeconds(5));
+
+        CapacityWebClientAdapter adapter = new CapacityWebClientAdapter(webClient, resilience, new ObjectMapper());
+        ReflectionTestUtils.setField(adapter, "fetchMode", "bulk");
+        ReflectionTestUtils.setField(adapter, "chunkSize", 2);
+        ReflectionTestUtils.setField(adapter, "bulkReprobeAfter", bulkReprobeAfter);
+        ReflectionTestUtils.setField(adapter, "logSampleRate", 0.0);
+        return adapter;
+    }
+
+    /* ====================== respuestas del downstream ====================== */
+
+    private static ClientResponse json(HttpStatus status, String body) {
+        return ClientResponse.create(status)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .body(body)
+                .build();
+    }
+
+    private static List<Long> requestedIds(ClientRequest request) {
+        String ids = UriComponentsBuilder.fromUri(request.url()).build().getQueryParams().getFirst("ids");
+        return Arrays.stream(ids.split(",")).map(Long::valueOf).toList();
+    }
+
+    private static String capacity(Long id) {
+        return "{\"id\":" + id + ",\"name\":\"Capacity " + id + "\",\"technologyIds\":[1]}";
+    }
+
+    // GET /capacities?ids=... como array sin envoltorio
+    private static ClientResponse bareArray(ClientRequest request) {
+        return json(HttpStatus.OK, requestedIds(request).stream()
+                .map(CapacityWebClientAdapterTest::capacity)
+                .collect(Collectors.joining(",", "[", "]")));
+    }
+
+    // GET /capacities/{id} envuelto en APIResponse, como capacity-service
+    private static ClientResponse single(ClientRequest request) {
+        String path = request.url().getPath();
+        Long id = Long.valueOf(path.substring(path.lastIndexOf('/') + 1));
+        return json(HttpStatus.OK, "{\"code\":\"200\",\"data\":" + capacity(id) + "}");
+    }
+
+    private static boolean isBulk(ClientRequest request) {
+        return request.url().getPath().equals("/capacities");
+    }
+
+    private List<String> bulkRequests() {
+        return requests.stream().filter(path -> path.startsWith("/capacities?")).toList();
+    }
+
+    private List<String> singleRequests() {
+        return requests.stream().filter(path -> path.startsWith("/capacities/")).toList();
+    }
+
+    private static List<Long> ids(List<CapacityDTO> capacities) {
+        return capacities.stream().map(CapacityDTO::getId).sorted().toList();
+    }
+
+    /* ====================== bulk ====================== */
+
+    @Test
+    void fetchByIds_bulk_splitsDistinctIdsIntoChunks() {
+        CapacityWebClientAdapter adapter = adapter(CapacityWebClientAdapterTest::bareArray, Duration.ofMinutes(5));
+
+        List<CapacityDTO> result = adapter.fetchByIds(List.of(1L, 2L, 3L, 2L, 4L, 5L)).collectList().block();
+
+        assertThat(ids(result)).containsExactly(1L, 2L, 3L, 4L, 5L);
+        assertThat(chunks).hasSize(3).allSatisfy(chunk -> assertThat(chunk).hasSizeLessThanOrEqualTo(2));
+        assertThat(chunks.stream().flatMap(List::stream)).containsExactlyInAnyOrder(1L, 2L, 3L, 4L, 5L);
+        assertThat(singleRequests()).isEmpty();
+    }
+
+    @Test
+    void fetchByIds_bulk_decodesTheDataEnvelope_andDropsIdsNotRequested() {
+        CapacityWebClientAdapter adapter = adapter(request -> json(HttpStatus.OK,
+                "{\"code\":\"200\",\"data\":[" + capacity(1L) + "," + capacity(99L) + "]}"), Duration.ofMinutes(5));
+
+        StepVerifier.create(adapter.fetchByIds(List.of(1L)))
+                .assertNext(capacity -> {
+                    assertThat(capacity.getId()).isEqualTo(1L);
+                    assertThat(capacity.getTechnologyIds()).containsExactly(1L);
+                })
+                .verifyComplete();
+    }
+
+    /* ====================== fallback por ID ====================== */
+
+    @ParameterizedTest
+    @ValueSource(ints = {404, 405, 501})
+    void fetchByIds_noBulkEndpoint_fallsBackToPerIdCalls(int status) {
+        CapacityWebClientAdapter adapter = adapter(request -> isBulk(request)
+                ? json(HttpStatus.valueOf(status), "{}")
+                : single(request), Duration.ofMinutes(5));
+
+        List<CapacityDTO> result = adapter.fetchByIds(List.of(1L, 2L, 3L)).collectList().block();
+
+        assertThat(ids(result)).containsExactly(1L, 2L, 3L);
+        assertThat(singleRequests()).hasSize(3);
+    }
+
+    @Test
+    void fetchByIds_undecodableBulkBody_fallsBackToPerIdCalls() {
+        // un listado paginado en lugar de la lista pedida
+        CapacityWebClientAdapter adapter = adapter(request -> isBulk(request)
+                ? json(HttpStatus.OK, "{\"content\":[" + capacity(1L) + "],\"page\":0}")
+                : single(request), Duration.ofMinutes(5));
+
+        List<CapacityDTO> result = adapter.fetchByIds(List.of(1L, 2L)).collectList().block();
+
+        assertThat(ids(result)).containsExactly(1L, 2L);
+        assertThat(singleRequests()).hasSize(2);
+    }
+
+    @Test
+    void fetchByIds_afterAFallback_skipsBulkUntilReprobeAfter() {
+        CapacityWebClientAdapter adapter = adapter(request -> isBulk(request)
+                ? json(HttpStatus.NOT_FOUND, "{}")
+                : single(request), Duration.ofMinutes(5));
+        adapter.fetchByIds(List.of(1L)).blockLast();
+        requests.clear();
+
+        adapter.fetchByIds(List.of(1L, 2L)).blockLast();
+
+        assertThat(bulkRequests()).isEmpty();
+        assertThat(singleRequests()).hasSize(2);
+    }
+
+    @Test
+    void fetchByIds_afterReprobeAfter_triesBulkAgain() {
+        CapacityWebClientAdapter adapter = adapter(request -> isBulk(request)
+                ? json(HttpStatus.NOT_FOUND, "{}")
+                : single(request), Duration.ZERO);
+        adapter.fetchByIds(List.of(1L)).blockLast();
+        requests.clear();
+
+        adapter.fetchByIds(List.of(1L, 2L)).blockLast();
+
+        assertThat(bulkRequests()).hasSize(1);
+    }
+
+    @Test
+    void fetchByIds_perIdNotFound_isSkipped() {
+        CapacityWebClientAdapter adapter = adapter(request -> isBulk(request)
+                ? json(HttpStatus.NOT_IMPLEMENTED, "{}")
+                : request.url().getPath().endsWith("/2") ? json(HttpStatus.NOT_FOUND, "{}") : single(request),
+                Duration.ofMinutes(5));
+
+        assertThat(ids(adapter.fetchByIds(List.of(1L, 2L)).collectList().block())).containsExactly(1L);
+    }
+
+    @Test
+    void fetchByIds_bulkServerError_failsWithoutFallback() {
+        CapacityWebClientAdapter adapter = adapter(request -> json(HttpStatus.INTERNAL_SERVER_ERROR, "{}"),
+                Duration.ofMinutes(5));
+
+        StepVerifier.create(adapter.fetchByIds(List.of(1L, 2L)))
+                .expectError(TechnicalException.class)
+                .verify();
+        assertThat(singleRequests()).isEmpty();
+    }
+}
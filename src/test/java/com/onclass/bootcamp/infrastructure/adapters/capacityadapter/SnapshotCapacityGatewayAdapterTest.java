@@ -0,0 +1,78 @@
+package com.onclass.bootcamp.infrastructure.adapters.capacityadapter;
+
+import com.onclass.bootcamp.domain.spi.CapacityGatewayPort;
+import com.onclass.bootcamp.infrastructure.adapters.snapshot.CatalogSnapshot;
+import com.onclass.bootcamp.infrastructure.entrypoints.dto.CapacityDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SnapshotCapacityGatewayAdapterTest {
+
+    private CapacityGatewayPort delegate;
+    private CatalogSnapshot<CapacityDTO> snapshot;
+    private SnapshotCapacityGatewayAdapter adapter;
+
+    @BeforeEach
+    void setup() {
+        delegate = mock(CapacityGatewayPort.class);
+        snapshot = new CatalogSnapshot<>("capacities",
+                () -> Flux.just(capacity(1L), capacity(2L)), CapacityDTO::getId, Duration.ofMinutes(5));
+        adapter = new SnapshotCapacityGatewayAdapter(snapshot, delegate);
+    }
+
+    private static CapacityDTO capacity(Long id) {
+        CapacityDTO dto = new CapacityDTO();
+        dto.setId(id);
+        dto.setName("Capacity " + id);
+        return dto;
+    }
+
+    @Test
+    void fetchByIds_beforeTheFirstLoad_goesToTheDelegate() {
+        when(delegate.fetchByIds(List.of(1L))).thenReturn(Flux.just(capacity(1L)));
+
+        StepVerifier.create(adapter.fetchByIds(List.of(1L))).expectNext(capacity(1L)).verifyComplete();
+    }
+
+    @Test
+    void fetchByIds_allInTheSnapshot_doesNotCallTheDelegate() {
+        snapshot.refresh().block();
+
+        StepVerifier.create(adapter.fetchByIds(List.of(2L, 1L)))
+                .expectNext(capacity(2L), capacity(1L))
+                .verifyComplete();
+        verify(delegate, never()).fetchByIds(anyList());
+    }
+
+    @Test
+    void fetchByIds_onlyTheMissesGoToTheDelegate() {
+        snapshot.refresh().block();
+        when(delegate.fetchByIds(List.of(3L))).thenReturn(Flux.just(capacity(3L)));
+
+        StepVerifier.create(adapter.fetchByIds(List.of(1L, 3L)))
+                .expectNext(capacity(1L), capacity(3L))
+                .verifyComplete();
+        verify(delegate).fetchByIds(List.of(3L));
+    }
+
+    @Test
+    void findExistingIds_alwaysAsksTheDelegate() {
+        snapshot.refresh().block();
+        // 2 sigue en el snapshot pero ya se borró en capacity-service
+        when(delegate.findExistingIds(List.of(1L, 2L))).thenReturn(Flux.just(1L));
+
+        StepVerifier.create(adapter.findExistingIds(List.of(1L, 2L))).expectNext(1L).verifyComplete();
+        verify(delegate, never()).fetchByIds(anyList());
+    }
+}
@@ -0,0 +1,109 @@
+package com.onclass.bootcamp.infrastructure.adapters.loader;
+
+import org.junit.jupiter.api.Test;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+import reactor.util.context.Context;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BatchLoaderTest {
+
+    private static final Duration WINDOW = Duration.ofMillis(20);
+
+    private final List<List<Long>> fetches = new CopyOnWriteArrayList<>();
+
+    private BatchLoader<Long> loader(Function<List<Long>, Flux<Long>> fetcher) {
+        return new BatchLoader<>(ids -> {
+            fetches.add(ids);
+            return fetcher.apply(ids);
+        }, Function.identity(), WINDOW);
+    }
+
+    @Test
+    void load_callsInTheSameWindow_shareOneFetch_andEachGetsItsOwnIdsInOrder() {
+        BatchLoader<Long> loader = loader(ids -> Flux.fromIterable(ids).sort());
+
+        Flux<List<Long>> both = Flux.merge(
+                loader.load(List.of(3L, 1L)).collectList().flux(),
+                loader.load(List.of(2L, 3L, 2L)).collectList().flux());
+
+        StepVerifier.create(both.collectList())
+                .assertNext(results -> assertThat(results)
+                        .containsExactlyInAnyOrder(List.of(3L, 1L), List.of(2L, 3L)))
+                .verifyComplete();
+        assertThat(fetches).singleElement().satisfies(ids -> assertThat(ids).containsExactly(3L, 1L, 2L));
+    }
+
+    @Test
+    void load_idAlreadyRequested_isNotFetchedAgain() {
+        BatchLoader<Long> loader = loader(Flux::fromIterable);
+
+        loader.load(List.of(1L, 2L)).blockLast();
+        StepVerifier.create(loader.load(List.of(2L, 1L))).expectNext(2L, 1L).verifyComplete();
+
+        assertThat(fetches).hasSize(1);
+    }
+
+    @Test
+    void load_idMissingFromTheResponse_isSkipped() {
+        BatchLoader<Long> loader = loader(ids -> Flux.fromIterable(ids).filter(id -> id != 2L));
+
+        StepVerifier.create(loader.load(List.of(1L, 2L, 3L))).expectNext(1L, 3L).verifyComplete();
+    }
+
+    @Test
+    void load_fetchFailsMidway_deliversWhatArrivedThenFails() {
+        BatchLoader<Long> loader = loader(ids -> Flux.just(1L).concatWith(Flux.error(new IllegalStateException("boom"))));
+
+        StepVerifier.create(loader.load(List.of(1L, 2L)))
+                .expectNext(1L)
+                .expectErrorMessage("boom")
+                .verify(Duration.ofSeconds(2));
+    }
+
+    @Test
+    void load_fetcherThrows_failsEveryCaller() {
+        BatchLoader<Long> loader = loader(ids -> {
+            throw new IllegalStateException("boom");
+        });
+
+        Flux<Long> first = loader.load(List.of(1L));
+        Flux<Long> second = loader.load(List.of(2L));
+
+        StepVerifier.create(Flux.mergeDelayError(2, first, second))
+                .expectErrorSatisfies(ex -> assertThat(Exceptions.unwrapMultiple(ex))
+                        .hasSize(2)
+                        .allSatisfy(cause -> assertThat(cause).hasMessage("boom")))
+                .verify(Duration.ofSeconds(2));
+        // el fallo queda para el resto del request
+        StepVerifier.create(loader.load(List.of(2L)))
+                .expectErrorMessage("boom")
+                .verify(Duration.ofSeconds(2));
+    }
+
+    @Test
+    void load_fetchIsSubscribedWithTheFirstCallersContext() {
+        List<String> seen = new CopyOnWriteArrayList<>();
+        BatchLoader<Long> loader = new BatchLoader<>(
+                ids -> Flux.deferContextual(ctx -> {
+                    seen.add(ctx.get("caller"));
+                    return Flux.fromIterable(ids);
+                }),
+                Function.identity(), WINDOW);
+
+        Flux<Long> both = Flux.merge(
+                loader.load(List.of(1L)).contextWrite(Context.of("caller", "first")),
+                loader.load(List.of(2L)).delaySubscription(Duration.ofMillis(5))
+                        .contextWrite(Context.of("caller", "second")));
+
+        StepVerifier.create(both).expectNextCount(2).verifyComplete();
+        assertThat(seen).containsExactly("first");
+    }
+}
@@ -0,0 +1,212 @@
+package com.onclass.bootcamp.infrastructure.adapters.persistenceadapter.repository;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.r2dbc.repository.Query;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.containers.MySQLContainer;
+
+import java.lang.reflect.Method;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+// Aplica db/migration y comprueba con EXPLAIN que cada @Query de los repositorios usa el índice previsto.
+// Base: -Dbootcamp.test.jdbc-url=jdbc:mysql://... (user/password con bootcamp.test.jdbc-user / -password)
+// o un MySQL 8 de Testcontainers; sin ninguna de las dos el test se omite.
+class BootcampQueryPlanTest {
+
+    private static final String NAME_COVER = "idx_bootcamps_name_cover";
+    private static final String NAME_UNIQUE = "uq_bootcamps_name";
+    private static final String LINK_UNIQUE = "uq_bootcamp_capacities_bootcamp_capacity";
+
+    // índice esperado por consulta: tabla -> índices aceptados
+    private static final Map<String, Map<String, Set<String>>> EXPECTED = Map.ofEntries(
+            Map.entry("findPageOrderByNameAsc", Map.of("b", Set.of(NAME_COVER))),
+            Map.entry("findPageOrderByNameDesc", Map.of("b", Set.of(NAME_COVER))),
+            Map.entry("findPageAfterOrderByNameAsc", Map.of("b", Set.of(NAME_COVER))),
+            Map.entry("findPageAfterOrderByNameDesc", Map.of("b", Set.of(NAME_COVER))),
+            Map.entry("findPageOrderByCapacityCountAsc", Map.of("b", Set.of("idx_bootcamps_capacity_count_asc"))),
+            Map.entry("findPageOrderByCapacityCountDesc", Map.of("b", Set.of("idx_bootcamps_capacity_count_desc"))),
+            Map.entry("findPageAfterOrderByCapacityCountAsc", Map.of("b", Set.of("idx_bootcamps_capacity_count_asc"))),
+            Map.entry("findPageAfterOrderByCapacityCountDesc", Map.of("b", Set.of("idx_bootcamps_capacity_count_desc"))),
+            Map.entry("findIdAndNameByNameIn", Map.of("b", Set.of(NAME_UNIQUE, NAME_COVER))),
+            Map.entry("findAllWithCapacityIds", Map.of("bc", Set.of(LINK_UNIQUE))),
+            Map.entry("findByIdWithCapacityIds", Map.of("b", Set.of("PRIMARY"), "bc", Set.of(LINK_UNIQUE))),
+            Map.entry("findCapacityIdsByBootcampIds", Map.of("bc", Set.of(LINK_UNIQUE))),
+            Map.entry("existsByName", Map.of("b", Set.of(NAME_UNIQUE))),
+            Map.entry("countAll", Map.of())  // cualquier índice: solo se exige que no lea la tabla completa
+    );
+
+    // export completo: recorre toda la tabla por PK, pero sin ordenar en memoria
+    private static final Set<String> FULL_SCAN = Set.of("findAllWithCapacityIds");
+
+    // valores de ejemplo para los parámetros :nombre de las consultas
+    private static final Map<String, String> SAMPLE_VALUES = Map.of(
+            "offset", "0",
+            "limit", "10",
+            "name", "'Bootcamp 01000'",
+            "id", "1000",
+            "count", "2",
+            "names", "'Bootcamp 00001', 'Bootcamp 00002'",
+            "bootcampIds", "1, 2, 3"
+    );
+
+    // consultas de nombre derivado (sin @Query), escritas como las genera Spring Data
+    private static final Map<String, String> DERIVED = Map.of(
+            "existsByName", "SELECT b.id FROM bootcamps b WHERE b.name = :name LIMIT 1"
+    );
+
+    private static MySQLContainer<?> container;
+    private static Connection connection;
+
+    @BeforeAll
+    static void migrateAndSeed() throws SQLException {
+        String url = System.getProperty("bootcamp.test.jdbc-url");
+        String user = System.getProperty("bootcamp.test.jdbc-user", "root");
+        String password = System.getProperty("bootcamp.test.jdbc-password", "");
+        if (url == null) {
+            assumeTrue(DockerClientFactory.instance().isDockerAvailable(), "Docker or bootcamp.test.jdbc-url required");
+            container = new MySQLContainer<>("mysql:8.0");
+            container.start();
+            url = container.getJdbcUrl();
+            user = container.getUsername();
+            password = container.getPassword();
+        }
+
+        Flyway flyway = Flyway.configure()
+                .dataSource(url, user, password)
+                .locations("classpath:db/migration")
+                .cleanDisabled(false)
+                .load();
+        flyway.clean();
+        flyway.migrate();
+
+        connection = DriverManager.getConnection(url, user, password);
+        seed(connection);
+    }
+
+    @AfterAll
+    static void close() throws SQLException {
+        if (connection != null) connection.close();
+        if (container != null) container.stop();
+    }
+
+    // suficientes filas para que el optimizador prefiera el índice a un full scan + filesort
+    private static void seed(Connection connection) throws SQLException {
+        try (Statement st = connection.createStatement()) {
+            StringBuilder bootcamps = new StringBuilder(
+                    "INSERT INTO bootcamps (name, description, launch_date, duration, capacity_count) VALUES ");
+            StringBuilder links = new StringBuilder("INSERT INTO bootcamp_capacities (bootcamp_id, capacity_id) VALUES ");
+            for (int i = 1; i <= 5000; i++) {
+                int count = 1 + i % 4;
+                if (i > 1) bootcamps.append(", ");
+                bootcamps.append(String.format("('Bootcamp %05d', 'Description %d', '2026-01-01', 12, %d)", i, i, count));
+                for (int c = 1; c <= count; c++) {
+                    if (i > 1 || c > 1) links.append(", ");
+                    links.append('(').append(i).append(", ").append(c * 10 + i % 7).append(')');
+                }
+            }
+            st.executeUpdate(bootcamps.toString());
+            st.executeUpdate(links.toString());
+            st.execute("ANALYZE TABLE bootcamps, bootcamp_capacities");
+        }
+    }
+
+    @Test
+    void every_repository_query_uses_its_index() throws SQLException {
+        Map<String, String> queries = new TreeMap<>(DERIVED);
+        for (Class<?> repository : List.of(BootcampRepository.class, BootcampCapacityRepository.class)) {
+            for (Method method : repository.getDeclaredMethods()) {
+                Query query = method.getAnnotation(Query.class);
+                if (query != null) queries.put(method.getName(), query.value());
+            }
+        }
+        // una consulta nueva sin índice esperado tiene que declararse aquí
+        for (String name : queries.keySet()) {
+            assertTrue(EXPECTED.containsKey(name), "No expected plan for " + name);
+        }
+
+        for (Map.Entry<String, String> entry : queries.entrySet()) {
+            List<Map<String, String>> plan = explain(withSampleValues(entry.getValue()));
+            Map<String, Set<String>> expected = EXPECTED.get(entry.getKey());
+
+            for (Map<String, String> row : plan) {
+                String table = row.get("table");
+                String key = row.get("key");
+                String where = entry.getKey() + " on " + table + " " + row;
+                if (FULL_SCAN.contains(entry.getKey()) && "b".equals(table)) {
+                    assertFalse(String.valueOf(row.get("Extra")).contains("filesort"), "Sorts the catalog: " + where);
+                    continue;
+                }
+                assertNotNull(key, "No index used: " + where);
+                assertFalse("ALL".equals(row.get("type")), "Full table scan: " + where);
+                if (expected.containsKey(table)) {
+                    assertTrue(expected.get(table).contains(key), "Unexpected index " + key + ": " + where);
+                }
+            }
+        }
+    }
+
+    @Test
+    void name_page_is_read_from_the_covering_index_without_filesort() throws SQLException {
+        for (String method : List.of("findPageOrderByNameAsc", "findPageOrderByNameDesc")) {
+            List<Map<String, String>> plan = explain(withSampleValues(queryOf(method)));
+            assertEquals(1, plan.size());
+            String extra = String.valueOf(plan.get(0).get("Extra"));
+            assertTrue(extra.contains("Using index"), method + " is not covered: " + extra);
+            assertFalse(extra.contains("filesort"), method + " sorts: " + extra);
+        }
+    }
+
+    private static String queryOf(String method) {
+        for (Method m : BootcampRepository.class.getDeclaredMethods()) {
+            if (m.getName().equals(method)) return m.getAnnotation(Query.class).value();
+        }
+        throw new IllegalArgumentException(method);
+    }
+
+    private static String withSampleValues(String sql) {
+        Matcher matcher = Pattern.compile(":(\\w+)").matcher(sql);
+        StringBuilder out = new StringBuilder();
+        while (matcher.find()) {
+            String value = SAMPLE_VALUES.get(matcher.group(1));
+            if (value == null) fail("No sample value for :" + matcher.group(1));
+            matcher.appendReplacement(out, Matcher.quoteReplacement(value));
+        }
+        return matcher.appendTail(out).toString();
+    }
+
+    private static List<Map<String, String>> explain(String sql) throws SQLException {
+        List<Map<String, String>> rows = new ArrayList<>();
+        try (Statement st = connection.createStatement(); ResultSet rs = st.executeQuery("EXPLAIN " + sql)) {
+            int columns = rs.getMetaData().getColumnCount();
+            while (rs.next()) {
+                Map<String, String> row = new TreeMap<>();
+                for (int i = 1; i <= columns; i++) {
+                    row.put(rs.getMetaData().getColumnLabel(i), rs.getString(i));
+                }
+                rows.add(row);
+            }
+        }
+        return rows;
+    }
+}
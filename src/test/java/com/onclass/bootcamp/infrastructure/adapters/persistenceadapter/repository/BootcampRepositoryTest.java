@@ -0,0 +1,170 @@
+package com.onclass.bootcamp.infrastructure.adapters.persistenceadapter.repository;
+
+import com.onclass.bootcamp.infrastructure.adapters.persistenceadapter.entity.BootcampCapacityEntity;
+import com.onclass.bootcamp.infrastructure.adapters.persistenceadapter.entity.BootcampEntity;
+import com.onclass.bootcamp.infrastructure.adapters.persistenceadapter.repository.BootcampRepository.BootcampWithCapacityRow;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.data.r2dbc.repository.support.R2dbcRepositoryFactory;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.containers.MySQLContainer;
+
+import java.net.URI;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+// Lee los agregados con capacidades por R2DBC contra una base migrada con db/migration.
+// Misma base que BootcampQueryPlanTest: -Dbootcamp.test.jdbc-url=jdbc:mysql://... o MySQL 8 de Testcontainers.
+class BootcampRepositoryTest {
+
+    private static MySQLContainer<?> container;
+    private static BootcampRepository repository;
+    private static BootcampCapacityRepository capacityRepository;
+
+    @BeforeAll
+    static void migrateAndSeed() throws SQLException {
+        String url = System.getProperty("bootcamp.test.jdbc-url");
+        String user = System.getProperty("bootcamp.test.jdbc-user", "root");
+        String password = System.getProperty("bootcamp.test.jdbc-password", "");
+        if (url == null) {
+            assumeTrue(DockerClientFactory.instance().isDockerAvailable(), "Docker or bootcamp.test.jdbc-url required");
+            container = new MySQLContainer<>("mysql:8.0");
+            container.start();
+            url = container.getJdbcUrl();
+            user = container.getUsername();
+            password = container.getPassword();
+        }
+
+        Flyway flyway = Flyway.configure()
+                .dataSource(url, user, password)
+                .locations("classpath:db/migration")
+                .cleanDisabled(false)
+                .load();
+        flyway.clean();
+        flyway.migrate();
+
+        try (Connection connection = DriverManager.getConnection(url, user, password);
+             Statement st = connection.createStatement()) {
+            st.executeUpdate("""
+                    INSERT INTO bootcamps (id, name, description, launch_date, duration, capacity_count) VALUES
+                      (1, 'Java', 'Backend', '2026-03-01', 12, 2),
+                      (2, 'Sin capacidades', 'Vacio', NULL, 4, 0),
+                      (3, 'Go', 'Servicios', '2026-05-15', 8, 1)
+                    """);
+            st.executeUpdate("INSERT INTO bootcamp_capacities (bootcamp_id, capacity_id) VALUES (1, 20), (1, 10), (3, 30)");
+        }
+
+        ConnectionFactory connectionFactory = r2dbc(url, user, password);
+        R2dbcRepositoryFactory factory = new R2dbcRepositoryFactory(new R2dbcEntityTemplate(connectionFactory));
+        repository = factory.getRepository(BootcampRepository.class,
+                new BootcampBatchRepositoryImpl(DatabaseClient.create(connectionFactory)));
+        capacityRepository = factory.getRepository(BootcampCapacityRepository.class,
+                new BootcampCapacityBatchRepositoryImpl(DatabaseClient.create(connectionFactory)));
+    }
+
+    @AfterAll
+    static void close() {
+        if (container != null) container.stop();
+    }
+
+    @Test
+    void findByIdWithCapacityIds_returnsEveryColumnAndTheCapacityIds() {
+        List<BootcampWithCapacityRow> rows = repository.findByIdWithCapacityIds(1L).collectList().block();
+
+        assertThat(rows).extracting(BootcampWithCapacityRow::capacityId).containsExactly(10L, 20L);
+        assertThat(rows).allSatisfy(row -> {
+            assertThat(row.id()).isEqualTo(1L);
+            assertThat(row.name()).isEqualTo("Java");
+            assertThat(row.description()).isEqualTo("Backend");
+            assertThat(row.launchDate()).isEqualTo(LocalDate.of(2026, 3, 1));
+            assertThat(row.duration()).isEqualTo(12);
+            assertThat(row.capacityCount()).isEqualTo(2);
+        });
+    }
+
+    @Test
+    void findByIdWithCapacityIds_withoutLinks_returnsOneRowWithNullCapacity() {
+        List<BootcampWithCapacityRow> rows = repository.findByIdWithCapacityIds(2L).collectList().block();
+
+        assertThat(rows).singleElement().satisfies(row -> {
+            assertThat(row.capacityId()).isNull();
+            assertThat(row.capacityCount()).isZero();
+            assertThat(row.launchDate()).isNull();
+        });
+    }
+
+    @Test
+    void findAllWithCapacityIds_returnsOneRowPerLinkGroupedByBootcamp() {
+        List<BootcampWithCapacityRow> rows = repository.findAllWithCapacityIds().collectList().block();
+
+        assertThat(rows).extracting(BootcampWithCapacityRow::id).containsExactly(1L, 1L, 2L, 3L);
+        assertThat(rows.subList(0, 2)).extracting(BootcampWithCapacityRow::capacityId)
+                .containsExactlyInAnyOrder(10L, 20L);
+        assertThat(rows.get(2).capacityId()).isNull();
+        assertThat(rows.get(3).capacityId()).isEqualTo(30L);
+        assertThat(rows.get(3).launchDate()).isEqualTo(LocalDate.of(2026, 5, 15));
+        assertThat(rows.get(3).capacityCount()).isEqualTo(1);
+    }
+
+    @Test
+    void findAllByBootcampIdOrderByCapacityIdAsc_returnsOnlyThatBootcampsLinksInOrder() {
+        assertThat(capacityRepository.findAllByBootcampIdOrderByCapacityIdAsc(1L).collectList().block())
+                .extracting(BootcampCapacityEntity::getCapacityId)
+                .containsExactly(10L, 20L);
+        assertThat(capacityRepository.findAllByBootcampIdOrderByCapacityIdAsc(2L).collectList().block()).isEmpty();
+    }
+
+    @Test
+    void insertAll_returnsTheGeneratedIdsInInputOrder() {
+        List<BootcampEntity> entities = IntStream.range(0, 250)
+                .mapToObj(i -> BootcampEntity.builder()
+                        .name("Lote " + i)
+                        .description("Alta por lotes")
+                        .duration(i % 2 == 0 ? 6 : null)
+                        .capacityCount(1)
+                        .build())
+                .toList();
+
+        List<Long> ids = repository.insertAll(entities).collectList().block();
+        try {
+            assertThat(ids).hasSize(250).doesNotHaveDuplicates();
+            for (int i = 0; i < ids.size(); i++) {
+                BootcampEntity stored = repository.findById(ids.get(i)).block();
+                assertThat(stored).isNotNull();
+                assertThat(stored.getName()).isEqualTo("Lote " + i);
+                assertThat(stored.getDuration()).isEqualTo(i % 2 == 0 ? 6 : null);
+            }
+        } finally {
+            // el resto de los tests espera solo las filas sembradas
+            repository.deleteAllById(ids).block();
+        }
+    }
+
+    // jdbc:mysql://host:port/db?... -> misma base por R2DBC
+    private static ConnectionFactory r2dbc(String jdbcUrl, String user, String password) {
+        URI uri = URI.create(jdbcUrl.substring("jdbc:".length()));
+        return ConnectionFactories.get(ConnectionFactoryOptions.builder()
+                .option(ConnectionFactoryOptions.DRIVER, "mysql")
+                .option(ConnectionFactoryOptions.HOST, uri.getHost())
+                .option(ConnectionFactoryOptions.PORT, uri.getPort() > 0 ? uri.getPort() : 3306)
+                .option(ConnectionFactoryOptions.DATABASE, uri.getPath().substring(1))
+                .option(ConnectionFactoryOptions.USER, user)
+                .option(ConnectionFactoryOptions.PASSWORD, password)
+                .build());
+    }
+}
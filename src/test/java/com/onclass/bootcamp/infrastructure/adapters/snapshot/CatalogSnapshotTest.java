@@ -0,0 +1,90 @@
+package com.onclass.bootcamp.infrastructure.adapters.snapshot;
+
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CatalogSnapshotTest {
+
+    private record Item(Long id, String name) {}
+
+    // Lo que devuelve el downstream en la próxima recarga
+    private final AtomicReference<Flux<Item>> catalog = new AtomicReference<>(Flux.empty());
+
+    private final CatalogSnapshot<Item> snapshot =
+            new CatalogSnapshot<>("items", catalog::get, Item::id, Duration.ofMinutes(5));
+
+    @Test
+    void beforeTheFirstLoad_isNotReady() {
+        assertThat(snapshot.isReady()).isFalse();
+        assertThat(snapshot.version()).isZero();
+        assertThat(snapshot.describe()).containsEntry("ready", false).doesNotContainKey("loadedAt");
+    }
+
+    @Test
+    void refresh_loadsTheCatalog_andLookupSplitsHitsAndMisses() {
+        catalog.set(Flux.just(new Item(1L, "a"), new Item(2L, "b"), new Item(null, "sin id")));
+
+        StepVerifier.create(snapshot.refresh()).expectNext(2).verifyComplete();
+
+        assertThat(snapshot.isReady()).isTrue();
+        CatalogSnapshot.Lookup<Item> lookup = snapshot.lookup(Arrays.asList(2L, 3L, null, 1L));
+        assertThat(lookup.hits()).extracting(Item::name).containsExactly("b", "a");
+        assertThat(lookup.misses()).containsExactly(3L);
+    }
+
+    @Test
+    void refresh_sameContent_keepsTheVersion_changedContent_bumpsIt() {
+        catalog.set(Flux.just(new Item(1L, "a")));
+        snapshot.refresh().block();
+        long first = snapshot.version();
+
+        snapshot.refresh().block();
+        assertThat(snapshot.version()).isEqualTo(first);
+
+        catalog.set(Flux.just(new Item(1L, "renamed")));
+        snapshot.refresh().block();
+        assertThat(snapshot.version()).isEqualTo(first + 1);
+    }
+
+    @Test
+    void refresh_failure_keepsServingThePreviousCopy() {
+        catalog.set(Flux.just(new Item(1L, "a")));
+        snapshot.refresh().block();
+        long version = snapshot.version();
+
+        catalog.set(Flux.error(new IllegalStateException("down")));
+        StepVerifier.create(snapshot.refresh()).expectError(IllegalStateException.class).verify();
+
+        assertThat(snapshot.lookup(List.of(1L)).hits()).extracting(Item::name).containsExactly("a");
+        assertThat(snapshot.version()).isEqualTo(version);
+        assertThat(snapshot.describe()).containsEntry("ready", true).containsKey("lastError");
+
+        catalog.set(Flux.just(new Item(1L, "a")));
+        snapshot.refresh().block();
+        assertThat(snapshot.describe()).doesNotContainKey("lastError");
+    }
+
+    @Test
+    void healthIndicator_isUnknownUntilEverySnapshotLoaded_thenUp() {
+        CatalogSnapshot<Item> other = new CatalogSnapshot<>("others",
+                () -> Flux.just(new Item(9L, "z")), Item::id, Duration.ofMinutes(5));
+        CatalogSnapshotHealthIndicator health = new CatalogSnapshotHealthIndicator(List.of(snapshot, other));
+        catalog.set(Flux.just(new Item(1L, "a")));
+
+        assertThat(health.health().getStatus().getCode()).isEqualTo("UNKNOWN");
+        snapshot.refresh().block();
+        assertThat(health.health().getStatus().getCode()).isEqualTo("UNKNOWN");
+        other.refresh().block();
+
+        assertThat(health.health().getStatus().getCode()).isEqualTo("UP");
+        assertThat(health.health().getDetails()).containsKeys("items", "others");
+    }
+}
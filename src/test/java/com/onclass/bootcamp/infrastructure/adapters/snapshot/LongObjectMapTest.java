@@ -0,0 +1,49 @@
+package com.onclass.bootcamp.infrastructure.adapters.snapshot;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LongObjectMapTest {
+
+    private record Item(long id, String name) {}
+
+    @Test
+    void of_unsortedKeys_areFoundByBinarySearch() {
+        LongObjectMap<Item> map = LongObjectMap.of(
+                List.of(new Item(30, "c"), new Item(10, "a"), new Item(20, "b")), Item::id);
+
+        assertThat(map.size()).isEqualTo(3);
+        assertThat(map.get(10)).extracting(Item::name).isEqualTo("a");
+        assertThat(map.get(20)).extracting(Item::name).isEqualTo("b");
+        assertThat(map.get(30)).extracting(Item::name).isEqualTo("c");
+    }
+
+    @Test
+    void get_missingKey_returnsNull() {
+        LongObjectMap<Item> map = LongObjectMap.of(List.of(new Item(10, "a"), new Item(30, "c")), Item::id);
+
+        assertThat(map.get(5)).isNull();
+        assertThat(map.get(20)).isNull();
+        assertThat(map.get(40)).isNull();
+    }
+
+    @Test
+    void of_repeatedKey_keepsTheLastValue() {
+        LongObjectMap<Item> map = LongObjectMap.of(
+                List.of(new Item(1, "first"), new Item(2, "other"), new Item(1, "last")), Item::id);
+
+        assertThat(map.size()).isEqualTo(2);
+        assertThat(map.get(1)).extracting(Item::name).isEqualTo("last");
+    }
+
+    @Test
+    void empty_hasNoKeys() {
+        LongObjectMap<Item> map = LongObjectMap.empty();
+
+        assertThat(map.size()).isZero();
+        assertThat(map.get(1)).isNull();
+    }
+}
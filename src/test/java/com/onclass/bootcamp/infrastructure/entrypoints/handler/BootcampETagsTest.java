@@ -0,0 +1,105 @@
+package com.onclass.bootcamp.infrastructure.entrypoints.handler;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.onclass.bootcamp.infrastructure.adapters.persistenceadapter.BootcampCatalogVersion;
+import com.onclass.bootcamp.infrastructure.adapters.snapshot.CatalogSnapshot;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.reactive.function.server.MockServerRequest;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class BootcampETagsTest {
+
+    private static final String PAGE_0 = "page=0&size=10&sortBy=&order=&includeTotal=true&cursor=";
+    private static final String PAGE_1 = "page=1&size=10&sortBy=&order=&includeTotal=true&cursor=";
+
+    private final AtomicReference<String> capacityNames = new AtomicReference<>("a");
+    private final CatalogSnapshot<String> snapshot = new CatalogSnapshot<>("capacities",
+            () -> Flux.just(capacityNames.get()), name -> 1L, Duration.ofMinutes(5));
+
+    private final BootcampETags etags = etags();
+
+    @SuppressWarnings("unchecked")
+    private BootcampETags etags() {
+        ObjectProvider<CatalogSnapshot<?>> snapshots = mock(ObjectProvider.class);
+        when(snapshots.orderedStream()).thenAnswer(invocation -> Stream.of(snapshot));
+        return new BootcampETags(new BootcampCatalogVersion(), new ObjectMapper(), snapshots, Duration.ofSeconds(10));
+    }
+
+    private static MockServerRequest ifNoneMatch(String value) {
+        return MockServerRequest.builder().header(HttpHeaders.IF_NONE_MATCH, value).build();
+    }
+
+    @Test
+    void current_isStableForTheSamePage_andDiffersBetweenPages() {
+        assertThat(etags.current(PAGE_0)).isEqualTo(etags.current(PAGE_0)).startsWith("W/\"");
+        assertThat(etags.current(PAGE_0)).isNotEqualTo(etags.current(PAGE_1));
+    }
+
+    @Test
+    void current_isTheSameForAnotherInstanceWithTheSameVersions() {
+        assertThat(etags().current(PAGE_0)).isEqualTo(etags.current(PAGE_0));
+    }
+
+    @Test
+    void current_changesWhenASnapshotChanges() {
+        snapshot.refresh().block();
+        String before = etags.current(PAGE_0);
+
+        capacityNames.set("renamed");
+        snapshot.refresh().block();
+
+        assertThat(etags.current(PAGE_0)).isNotEqualTo(before);
+    }
+
+    @Test
+    void notModified_star_matches() {
+        String etag = etags.current(PAGE_0);
+
+        StepVerifier.create(etags.notModified(ifNoneMatch("*"), etag))
+                .assertNext(response -> {
+                    assertThat(response.statusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+                    assertThat(response.headers().getETag()).isEqualTo(etag);
+                    assertThat(response.headers().getCacheControl()).contains("max-age=10");
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void notModified_usesWeakComparison() {
+        String etag = etags.current(PAGE_0);
+        String strong = etag.substring(2);
+
+        StepVerifier.create(etags.notModified(ifNoneMatch(strong), etag)).expectNextCount(1).verifyComplete();
+        StepVerifier.create(etags.notModified(ifNoneMatch(etag), strong)).expectNextCount(1).verifyComplete();
+    }
+
+    @Test
+    void notModified_matchesAnyTagOfACommaSeparatedList() {
+        String etag = etags.current(PAGE_0);
+
+        StepVerifier.create(etags.notModified(ifNoneMatch("W/\"old\", " + etag + " ,\"other\""), etag))
+                .expectNextCount(1)
+                .verifyComplete();
+    }
+
+    @Test
+    void notModified_noMatchOrNoHeader_isEmpty() {
+        String etag = etags.current(PAGE_0);
+
+        StepVerifier.create(etags.notModified(ifNoneMatch(etags.current(PAGE_1)), etag)).verifyComplete();
+        StepVerifier.create(etags.notModified(ifNoneMatch("W/\"old\", \"other\""), etag)).verifyComplete();
+        StepVerifier.create(etags.notModified(MockServerRequest.builder().build(), etag)).verifyComplete();
+    }
+}
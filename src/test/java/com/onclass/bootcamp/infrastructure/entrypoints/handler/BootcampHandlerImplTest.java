@@ -0,0 +1,221 @@
+package com.onclass.bootcamp.infrastructure.entrypoints.handler;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.onclass.bootcamp.domain.api.BootcampServicePort;
+import com.onclass.bootcamp.domain.model.Bootcamp;
+import com.onclass.bootcamp.domain.model.Page;
+import com.onclass.bootcamp.infrastructure.adapters.ListPipelineMetrics;
+import com.onclass.bootcamp.infrastructure.adapters.persistenceadapter.BootcampCatalogVersion;
+import com.onclass.bootcamp.infrastructure.adapters.snapshot.CatalogSnapshot;
+import com.onclass.bootcamp.infrastructure.entrypoints.RouterRest;
+import com.onclass.bootcamp.infrastructure.entrypoints.dto.BootcampListItemDTO;
+import com.onclass.bootcamp.infrastructure.entrypoints.mapper.BootcampMapperImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class BootcampHandlerImplTest {
+
+    private BootcampServicePort service;
+    private BootcampListEnricher enricher;
+    private WebTestClient client;
+    private final SimpleMeterRegistry meters = new SimpleMeterRegistry();
+    // Versión del catálogo controlada por el test (en la app la sube BootcampPersistenceAdapter)
+    private final AtomicLong catalogVersion = new AtomicLong();
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setup() {
+        service = mock(BootcampServicePort.class);
+        enricher = mock(BootcampListEnricher.class);
+        ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+        ObjectProvider<CatalogSnapshot<?>> snapshots = mock(ObjectProvider.class);
+        when(snapshots.orderedStream()).thenAnswer(invocation -> Stream.empty());
+        BootcampCatalogVersion version = mock(BootcampCatalogVersion.class);
+        when(version.current()).thenAnswer(invocation -> catalogVersion.get());
+        BootcampETags etags = new BootcampETags(version, objectMapper, snapshots, Duration.ofSeconds(10));
+        BootcampPageCache pageCache = new BootcampPageCache(true, Duration.ofSeconds(30), 500, true, objectMapper,
+                etags, new SimpleMeterRegistry());
+        BootcampHandlerImpl handler = new BootcampHandlerImpl(service, new BootcampMapperImpl(), enricher,
+                new ListPipelineMetrics(ObservationRegistry.NOOP, meters), etags, pageCache);
+        ReflectionTestUtils.setField(handler, "requestBudget", Duration.ofSeconds(3));
+        ReflectionTestUtils.setField(handler, "batchBudgetPerItem", Duration.ofMillis(5));
+        client = WebTestClient.bindToRouterFunction(new RouterRest().routerFunction(handler)).build();
+
+        Bootcamp bootcamp = bootcamp(1L);
+        when(service.list(any(), any(), any(), anyBoolean()))
+                .thenReturn(Mono.just(Page.of(List.of(bootcamp), 0, 10, 1L)));
+        when(enricher.enrich(anyList())).thenAnswer(invocation -> Mono.just(enriched(false)));
+        when(service.findById(1L)).thenReturn(Mono.just(bootcamp));
+        when(service.findById(99L)).thenReturn(Mono.empty());
+    }
+
+    private static Bootcamp bootcamp(Long id) {
+        return Bootcamp.builder()
+                .id(id)
+                .name("Java")
+                .description("Backend")
+                .launchDate(LocalDate.of(2026, 1, 15))
+                .duration(12)
+                .build();
+    }
+
+    private static BootcampListEnricher.Result enriched(boolean partial) {
+        return new BootcampListEnricher.Result(List.of(new BootcampListItemDTO(1L, "Java", "Backend",
+                LocalDate.of(2026, 1, 15), 12, 0, List.of())), partial);
+    }
+
+    private String listETag(String query) {
+        return client.get().uri("/bootcamps" + query).exchange()
+                .expectStatus().isOk()
+                .returnResult(String.class).getResponseHeaders().getETag();
+    }
+
+    /* ====================== métricas del listado ====================== */
+
+    @Test
+    void list_success_recordsThePerRequestMetrics() {
+        client.get().uri("/bootcamps?page=0&size=10").exchange().expectStatus().isOk();
+
+        assertThat(meters.find("bootcamp.list.downstream.calls").summaries())
+                .isNotEmpty()
+                .allSatisfy(summary -> assertThat(summary.count()).isEqualTo(1));
+    }
+
+    @Test
+    void list_failure_stillRecordsThePerRequestMetrics() {
+        when(enricher.enrich(anyList())).thenReturn(Mono.error(new IllegalStateException("boom")));
+
+        client.get().uri("/bootcamps?page=0&size=10").exchange().expectStatus().is5xxServerError();
+
+        assertThat(meters.find("bootcamp.list.downstream.calls").summaries())
+                .isNotEmpty()
+                .allSatisfy(summary -> assertThat(summary.count()).isEqualTo(1));
+    }
+
+    /* ====================== caché de páginas ====================== */
+
+    @Test
+    void list_pageCacheHit_skipsTheServiceAndTheEnricher() {
+        String first = client.get().uri("/bootcamps?page=0&size=10").exchange()
+                .expectStatus().isOk().expectBody(String.class).returnResult().getResponseBody();
+
+        client.get().uri("/bootcamps?page=0&size=10").exchange()
+                .expectStatus().isOk()
+                .expectBody(String.class).isEqualTo(first);
+
+        verify(service, times(1)).list(any(), any(), any(), anyBoolean());
+        verify(enricher, times(1)).enrich(anyList());
+    }
+
+    @Test
+    void list_catalogVersionBump_rebuildsThePage() {
+        client.get().uri("/bootcamps?page=0&size=10").exchange().expectStatus().isOk();
+
+        catalogVersion.incrementAndGet();
+        client.get().uri("/bootcamps?page=0&size=10").exchange().expectStatus().isOk();
+
+        verify(service, times(2)).list(any(), any(), any(), anyBoolean());
+    }
+
+    @Test
+    void list_partialPage_isNotCached() {
+        when(enricher.enrich(anyList())).thenAnswer(invocation -> Mono.just(enriched(true)));
+
+        for (int i = 0; i < 2; i++) {
+            client.get().uri("/bootcamps?page=0&size=10").exchange()
+                    .expectStatus().isOk()
+                    .expectHeader().valueEquals("X-Partial-Result", "true")
+                    .expectHeader().doesNotExist(HttpHeaders.ETAG);
+        }
+        verify(service, times(2)).list(any(), any(), any(), anyBoolean());
+    }
+
+    @Test
+    void list_registerWhileAssembling_storesNothing() {
+        // el alta llega después de leer la página y antes de guardarla
+        when(enricher.enrich(anyList())).thenAnswer(invocation -> {
+            catalogVersion.incrementAndGet();
+            return Mono.just(enriched(false));
+        });
+        client.get().uri("/bootcamps?page=0&size=10").exchange().expectStatus().isOk();
+
+        when(enricher.enrich(anyList())).thenAnswer(invocation -> Mono.just(enriched(false)));
+        client.get().uri("/bootcamps?page=0&size=10").exchange().expectStatus().isOk();
+        client.get().uri("/bootcamps?page=0&size=10").exchange().expectStatus().isOk();
+
+        // la primera página no se guardó; la segunda sí y sirve a la tercera
+        verify(service, times(2)).list(any(), any(), any(), anyBoolean());
+    }
+
+    /* ====================== ETag / 304 ====================== */
+
+    @Test
+    void list_matchingIfNoneMatch_returns304WithoutTouchingMySqlOrDownstreams() {
+        String etag = listETag("?page=0&size=10");
+        clearInvocations(service, enricher);
+
+        client.get().uri("/bootcamps?page=0&size=10").header(HttpHeaders.IF_NONE_MATCH, etag).exchange()
+                .expectStatus().isNotModified()
+                .expectHeader().valueEquals(HttpHeaders.ETAG, etag);
+
+        verifyNoInteractions(service, enricher);
+    }
+
+    @Test
+    void list_ifNoneMatchOfAnotherPage_returns200() {
+        String etag = listETag("?page=0&size=10");
+
+        client.get().uri("/bootcamps?page=1&size=10").header(HttpHeaders.IF_NONE_MATCH, etag).exchange()
+                .expectStatus().isOk()
+                .expectHeader().value(HttpHeaders.ETAG, tag -> assertThat(tag).isNotEqualTo(etag));
+    }
+
+    @Test
+    void getById_unknownId_is404EvenWithIfNoneMatchStar() {
+        client.get().uri("/bootcamps/99").header(HttpHeaders.IF_NONE_MATCH, "*").exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    void getById_invalidId_is400EvenWithIfNoneMatchStar() {
+        client.get().uri("/bootcamps/abc").header(HttpHeaders.IF_NONE_MATCH, "*").exchange()
+                .expectStatus().isBadRequest();
+        verifyNoInteractions(service);
+    }
+
+    @Test
+    void getById_matchingIfNoneMatch_returns304() {
+        String etag = client.get().uri("/bootcamps/1").exchange()
+                .expectStatus().isOk()
+                .returnResult(String.class).getResponseHeaders().getETag();
+
+        client.get().uri("/bootcamps/1").header(HttpHeaders.IF_NONE_MATCH, etag).exchange()
+                .expectStatus().isNotModified()
+                .expectBody().isEmpty();
+        verify(service, times(2)).findById(1L);
+    }
+}
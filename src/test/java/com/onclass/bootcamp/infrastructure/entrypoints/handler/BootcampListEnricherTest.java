@@ -0,0 +1,195 @@
+package com.onclass.bootcamp.infrastructure.entrypoints.handler;
+
+import com.onclass.bootcamp.domain.model.Bootcamp;
+import com.onclass.bootcamp.domain.spi.BootcampPersistencePort;
+import com.onclass.bootcamp.domain.spi.CapacityGatewayPort;
+import com.onclass.bootcamp.domain.spi.TechnologyGatewayPort;
+import com.onclass.bootcamp.infrastructure.adapters.ListPipelineMetrics;
+import com.onclass.bootcamp.infrastructure.entrypoints.dto.BootcampListItemDTO;
+import com.onclass.bootcamp.infrastructure.entrypoints.dto.CapacityDTO;
+import com.onclass.bootcamp.infrastructure.entrypoints.dto.CapacityListItemDTO;
+import com.onclass.bootcamp.infrastructure.entrypoints.dto.TechnologyDTO;
+import com.onclass.bootcamp.infrastructure.entrypoints.mapper.BootcampMapperImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BootcampListEnricherTest {
+
+    // Capacity 10 -> technologies 1, 2 | 20 -> 2, 3 | 30 -> 3
+    private static final Map<Long, CapacityDTO> CAPACITIES = Map.of(
+            10L, capacity(10L, List.of(1L, 2L)),
+            20L, capacity(20L, List.of(2L, 3L)),
+            30L, capacity(30L, List.of(3L)));
+    private static final Map<Long, TechnologyDTO> TECHNOLOGIES = Map.of(
+            1L, technology(1L), 2L, technology(2L), 3L, technology(3L));
+
+    private BootcampPersistencePort persistence;
+    private Capacities capacities;
+    private Technologies technologies;
+    private BootcampListEnricher enricher;
+
+    @BeforeEach
+    void setup() {
+        persistence = mock(BootcampPersistencePort.class);
+        capacities = new Capacities();
+        technologies = new Technologies();
+        enricher = new BootcampListEnricher(persistence, capacities, technologies, new BootcampMapperImpl(),
+                new ListPipelineMetrics(ObservationRegistry.NOOP, new SimpleMeterRegistry()));
+
+        // Bootcamp 1 -> 10, 20 | 2 -> 20, 30 | 3 sin capacities
+        when(persistence.findCapacityIdsByBootcampIds(anyCollection())).thenReturn(Flux.just(
+                Map.entry(1L, 10L), Map.entry(1L, 20L), Map.entry(2L, 20L), Map.entry(2L, 30L)));
+    }
+
+    @Test
+    void enrich_sharedCapacitiesAndTechnologies_areFetchedOnceEach() {
+        StepVerifier.create(enricher.enrich(page()))
+                .assertNext(result -> {
+                    assertThat(result.partial()).isFalse();
+                    assertThat(result.content()).extracting(BootcampListItemDTO::id).containsExactly(1L, 2L, 3L);
+                })
+                .verifyComplete();
+
+        verify(persistence, times(1)).findCapacityIdsByBootcampIds(List.of(1L, 2L, 3L));
+        assertThat(capacities.calls).containsExactly(List.of(10L, 20L, 30L));
+        assertThat(technologies.calls).containsExactly(List.of(1L, 2L, 3L));
+    }
+
+    @Test
+    void enrich_assemblesEachBootcampWithItsCapacitiesAndTechnologies() {
+        List<BootcampListItemDTO> content = enricher.enrich(page()).block().content();
+
+        BootcampListItemDTO first = content.get(0);
+        assertThat(first.name()).isEqualTo("Bootcamp 1");
+        assertThat(first.capacityCount()).isEqualTo(2);
+        assertThat(first.capacities()).extracting(CapacityListItemDTO::id).containsExactly(10L, 20L);
+        assertThat(first.capacities().get(0).techCount()).isEqualTo(2);
+        assertThat(first.capacities().get(0).technologies()).extracting(TechnologyDTO::getId).containsExactly(1L, 2L);
+        assertThat(first.capacities().get(1).technologies()).extracting(TechnologyDTO::getId).containsExactly(2L, 3L);
+
+        BootcampListItemDTO second = content.get(1);
+        assertThat(second.capacities()).extracting(CapacityListItemDTO::id).containsExactly(20L, 30L);
+        assertThat(second.capacities().get(1).technologies()).extracting(TechnologyDTO::getName)
+                .containsExactly("Technology 3");
+
+        BootcampListItemDTO third = content.get(2);
+        assertThat(third.capacityCount()).isZero();
+        assertThat(third.capacities()).isEmpty();
+    }
+
+    @Test
+    void enrich_technologyServiceFails_returnsCapacitiesWithoutTechnologiesAsPartial() {
+        technologies.failing = true;
+
+        StepVerifier.create(enricher.enrich(page()))
+                .assertNext(result -> {
+                    assertThat(result.partial()).isTrue();
+                    assertThat(result.content().get(0).capacities()).extracting(CapacityListItemDTO::id)
+                            .containsExactly(10L, 20L);
+                    assertThat(result.content().get(0).capacities())
+                            .allSatisfy(cap -> assertThat(cap.technologies()).isEmpty());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void enrich_capacityServiceFails_returnsBootcampsWithoutCapacitiesAsPartial() {
+        capacities.failing = true;
+
+        StepVerifier.create(enricher.enrich(page()))
+                .assertNext(result -> {
+                    assertThat(result.partial()).isTrue();
+                    assertThat(result.content()).hasSize(3)
+                            .allSatisfy(item -> assertThat(item.capacities()).isEmpty());
+                })
+                .verifyComplete();
+        assertThat(technologies.calls).isEmpty();
+    }
+
+    @Test
+    void enrich_emptyPage_makesNoCalls() {
+        StepVerifier.create(enricher.enrich(List.of()))
+                .assertNext(result -> assertThat(result.content()).isEmpty())
+                .verifyComplete();
+
+        verify(persistence, never()).findCapacityIdsByBootcampIds(anyCollection());
+        assertThat(capacities.calls).isEmpty();
+    }
+
+    /* ====================== helpers ====================== */
+
+    private static List<Bootcamp> page() {
+        return List.of(bootcamp(1L), bootcamp(2L), bootcamp(3L));
+    }
+
+    private static Bootcamp bootcamp(Long id) {
+        return Bootcamp.builder().id(id).name("Bootcamp " + id).description("Descripción " + id).duration(8).build();
+    }
+
+    private static CapacityDTO capacity(Long id, List<Long> technologyIds) {
+        CapacityDTO dto = new CapacityDTO();
+        dto.setId(id);
+        dto.setName("Capacity " + id);
+        dto.setTechnologyIds(technologyIds);
+        return dto;
+    }
+
+    private static TechnologyDTO technology(Long id) {
+        TechnologyDTO dto = new TechnologyDTO();
+        dto.setId(id);
+        dto.setName("Technology " + id);
+        return dto;
+    }
+
+    // Gateways en memoria que registran los IDs de cada llamada
+    private static final class Capacities implements CapacityGatewayPort {
+        private final List<List<Long>> calls = new CopyOnWriteArrayList<>();
+        private boolean failing;
+
+        @Override
+        public Flux<Long> findExistingIds(List<Long> ids) {
+            return fetchByIds(ids).map(CapacityDTO::getId);
+        }
+
+        @Override
+        public Flux<CapacityDTO> fetchByIds(List<Long> ids) {
+            calls.add(ids);
+            if (failing) return Flux.error(new IllegalStateException("capacity-service down"));
+            return Flux.fromIterable(ids).map(CAPACITIES::get).filter(Objects::nonNull);
+        }
+    }
+
+    private static final class Technologies implements TechnologyGatewayPort {
+        private final List<List<Long>> calls = new CopyOnWriteArrayList<>();
+        private boolean failing;
+
+        @Override
+        public Flux<Long> findExistingIds(List<Long> ids) {
+            return fetchByIds(ids).map(TechnologyDTO::getId);
+        }
+
+        @Override
+        public Flux<TechnologyDTO> fetchByIds(List<Long> ids) {
+            calls.add(ids);
+            if (failing) return Flux.error(new IllegalStateException("technology-service down"));
+            return Flux.fromIterable(ids).map(TECHNOLOGIES::get).filter(Objects::nonNull);
+        }
+    }
+}
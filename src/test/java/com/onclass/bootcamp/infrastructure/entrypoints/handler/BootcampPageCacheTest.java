@@ -0,0 +1,116 @@
+package com.onclass.bootcamp.infrastructure.entrypoints.handler;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.onclass.bootcamp.domain.model.Order;
+import com.onclass.bootcamp.domain.model.SortBy;
+import com.onclass.bootcamp.infrastructure.adapters.persistenceadapter.BootcampCatalogVersion;
+import com.onclass.bootcamp.infrastructure.adapters.snapshot.CatalogSnapshot;
+import com.onclass.bootcamp.infrastructure.entrypoints.dto.BootcampListItemDTO;
+import com.onclass.bootcamp.infrastructure.entrypoints.dto.PageResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class BootcampPageCacheTest {
+
+    private static final BootcampPageCache.Key KEY =
+            new BootcampPageCache.Key(0, 10, SortBy.NAME, Order.ASC, true);
+
+    // Versión del catálogo controlada por el test (en la app la sube BootcampPersistenceAdapter)
+    private final AtomicLong catalogVersion = new AtomicLong();
+
+    private BootcampPageCache cache(boolean enabled, boolean serialized) {
+        BootcampCatalogVersion version = mock(BootcampCatalogVersion.class);
+        when(version.current()).thenAnswer(invocation -> catalogVersion.get());
+        @SuppressWarnings("unchecked")
+        ObjectProvider<CatalogSnapshot<?>> snapshots = mock(ObjectProvider.class);
+        when(snapshots.orderedStream()).thenAnswer(invocation -> Stream.empty());
+        ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+        BootcampETags etags = new BootcampETags(version, objectMapper, snapshots, Duration.ofSeconds(10));
+        return new BootcampPageCache(enabled, Duration.ofSeconds(30), 500, serialized, objectMapper, etags,
+                new SimpleMeterRegistry());
+    }
+
+    private static PageResponse<BootcampListItemDTO> page(Boolean partial) {
+        BootcampListItemDTO item = new BootcampListItemDTO(1L, "Java", "Backend", LocalDate.of(2026, 1, 15), 12, 0,
+                List.of());
+        return new PageResponse<>(List.of(item), 0, 10, 1, 1, null, partial);
+    }
+
+    @Test
+    void put_thenGet_sameVersion_isAHit() {
+        BootcampPageCache cache = cache(true, false);
+        String version = cache.version();
+
+        cache.put(KEY, version, page(null));
+
+        assertThat(cache.get(KEY)).hasValueSatisfying(entry -> {
+            assertThat(entry.payload()).isEqualTo(page(null));
+            assertThat(entry.json()).isNull();
+        });
+        assertThat(cache.get(new BootcampPageCache.Key(1, 10, SortBy.NAME, Order.ASC, true))).isEmpty();
+    }
+
+    @Test
+    void put_serialized_keepsTheJson() {
+        BootcampPageCache cache = cache(true, true);
+        cache.put(KEY, cache.version(), page(null));
+
+        assertThat(cache.get(KEY)).hasValueSatisfying(entry ->
+                assertThat(new String(entry.json(), StandardCharsets.UTF_8))
+                        .contains("\"name\":\"Java\"").doesNotContain("partial"));
+    }
+
+    @Test
+    void catalogVersionBump_invalidatesTheEntries() {
+        BootcampPageCache cache = cache(true, false);
+        cache.put(KEY, cache.version(), page(null));
+
+        catalogVersion.incrementAndGet();
+
+        assertThat(cache.get(KEY)).isEmpty();
+        // volver a la versión anterior no resucita la entrada: se liberó con el cambio
+        catalogVersion.decrementAndGet();
+        assertThat(cache.get(KEY)).isEmpty();
+    }
+
+    @Test
+    void put_partialPage_isNotStored() {
+        BootcampPageCache cache = cache(true, false);
+
+        cache.put(KEY, cache.version(), page(Boolean.TRUE));
+
+        assertThat(cache.get(KEY)).isEmpty();
+    }
+
+    @Test
+    void put_versionChangedWhileAssembling_isNotStored() {
+        BootcampPageCache cache = cache(true, false);
+        String version = cache.version();
+
+        catalogVersion.incrementAndGet();   // register entre la lectura y el put
+        cache.put(KEY, version, page(null));
+
+        assertThat(cache.get(KEY)).isEmpty();
+    }
+
+    @Test
+    void disabled_neverHits() {
+        BootcampPageCache cache = cache(false, false);
+
+        cache.put(KEY, cache.version(), page(null));
+
+        assertThat(cache.get(KEY)).isEmpty();
+    }
+}
@@ -0,0 +1,84 @@
+package com.onclass.bootcamp.infrastructure.entrypoints.util;
+
+import com.onclass.bootcamp.domain.enums.TechnicalMessage;
+import com.onclass.bootcamp.domain.exceptions.BusinessException;
+import com.onclass.bootcamp.domain.model.Order;
+import com.onclass.bootcamp.domain.model.PageCursor;
+import com.onclass.bootcamp.domain.model.SortBy;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CursorCodecTest {
+
+    private static String token(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void assertInvalid(String token) {
+        assertThatThrownBy(() -> CursorCodec.decode(token))
+                .isInstanceOf(BusinessException.class)
+                .extracting(ex -> ((BusinessException) ex).getTechnicalMessage())
+                .isEqualTo(TechnicalMessage.INVALID_CURSOR);
+    }
+
+    @Test
+    void roundTrip_byName_keepsSeparatorInName() {
+        PageCursor cursor = new PageCursor(SortBy.NAME, Order.ASC, null, "Java | Spring", 42L);
+
+        assertThat(CursorCodec.decode(CursorCodec.encode(cursor))).isEqualTo(cursor);
+    }
+
+    @Test
+    void roundTrip_byCapacityCount() {
+        PageCursor cursor = new PageCursor(SortBy.CAPACITY_COUNT, Order.DESC, 3, "Ñandú", 7L);
+
+        assertThat(CursorCodec.decode(CursorCodec.encode(cursor))).isEqualTo(cursor);
+    }
+
+    @Test
+    void encode_null_isNull() {
+        assertThat(CursorCodec.encode(null)).isNull();
+    }
+
+    @Test
+    void decode_null_isInvalid() {
+        assertInvalid(null);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "%%%", "not base64!", "djE"})
+    void decode_malformedToken_isInvalid(String token) {
+        assertInvalid(token);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "v2|NAME|ASC||1|Java",              // otra versión
+            "v1|NAME|ASC||1",                   // campos de menos
+            "v1|TITLE|ASC||1|Java",             // sortBy desconocido
+            "v1|NAME|UP||1|Java",               // order desconocido
+            "v1|NAME|ASC||abc|Java",            // id no numérico
+            "v1|NAME|ASC||0|Java",              // id fuera de rango
+            "v1|NAME|ASC||-5|Java",
+            "v1|CAPACITY_COUNT|ASC||1|Java",    // orden por capacityCount sin capacityCount
+            "v1|CAPACITY_COUNT|ASC|-1|1|Java",
+            "v1|CAPACITY_COUNT|ASC|x|1|Java"
+    })
+    void decode_tamperedPayload_isInvalid(String raw) {
+        assertInvalid(token(raw));
+    }
+
+    @Test
+    void decode_truncatedValidToken_isInvalid() {
+        String valid = CursorCodec.encode(new PageCursor(SortBy.NAME, Order.ASC, null, "Java", 42L));
+
+        assertInvalid(valid.substring(0, valid.length() / 2));
+    }
+}